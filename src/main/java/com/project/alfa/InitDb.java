@@ -161,6 +161,11 @@ public class InitDb {
                 i--;
             }
         }
+        
+        //댓글 수 반영
+        em.flush();
+        em.createQuery("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p)")
+          .executeUpdate();
     }
     
 }
@@ -20,7 +20,7 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
     private final String  password;
     private final Boolean emailAuth;
     private final String  nickname;
-    private final String  base64Image;
+    private final String  imageKey;
     private final String  role;
     
     private Map<String, Object> attributes;
@@ -30,7 +30,7 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
                              String password,
                              Boolean emailAuth,
                              String nickname,
-                             String base64Image,
+                             String imageKey,
                              String role,
                              Map<String, Object> attributes) {
         this.id = id;
@@ -38,7 +38,7 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
         this.password = password;
         this.emailAuth = emailAuth;
         this.nickname = nickname;
-        this.base64Image = base64Image;
+        this.imageKey = imageKey;
         this.role = role;
         this.attributes = attributes;
     }
@@ -19,6 +19,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Member member = memberRepository.findByUsername(username.toLowerCase())
+                                        .filter(m -> !Boolean.TRUE.equals(m.getDisabled()))   //탈퇴 처리 중인 계정
                                         .orElseThrow(() -> new UsernameNotFoundException(
                                                 "Could not found user by username: " + username));
         return new CustomUserDetails(member.getId(),
@@ -26,7 +27,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                                      member.getPassword(),
                                      member.getEmailAuth().getAuth(),
                                      member.getNickname(),
-                                     member.getProfileImage().getBase64Data(),
+                                     member.getProfileImage().getImageKey(),
                                      member.getRole().value());
     }
     
@@ -61,6 +61,8 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
             .permitAll()
             .antMatchers("/posts/write?notice=true")
             .access("hasRole('ROLE_ADMIN')")
+            .antMatchers("/posts/admin/**")
+            .access("hasRole('ROLE_ADMIN')")
             .anyRequest()
             .authenticated()
             .and()
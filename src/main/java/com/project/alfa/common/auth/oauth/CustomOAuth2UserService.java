@@ -57,7 +57,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                                                      .storeFileName(null)
                                                      .storeFilePath(null)
                                                      .fileSize(null)
-                                                     .base64Data(null)
+                                                     .contentHash(null)
                                                      .build())
                            .build();
             member.setOAuthInfo(oAuth2UserInfo.getProvider(), oAuth2UserInfo.getProviderId());
@@ -65,12 +65,15 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             memberRepository.save(member);
         } else member = memberRepository.findByUsername(username).get();
         
+        if (Boolean.TRUE.equals(member.getDisabled()))  //탈퇴 처리 중인 계정
+            throw new OAuth2AuthenticationException("account_disabled");
+        
         return new CustomUserDetails(member.getId(),
                                      member.getUsername(),
                                      member.getPassword(),
                                      member.getEmailAuth().getAuth(),
                                      member.getNickname(),
-                                     member.getProfileImage().getBase64Data(),
+                                     member.getProfileImage().getImageKey(),
                                      member.getRole().value(),
                                      oAuth2User.getAttributes());
     }
@@ -0,0 +1,23 @@
+package com.project.alfa.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * stale-while-revalidate 캐시 값
+ * 캐시 값과 함께 신선도 만료 일시를 보관하며, 만료 후에도 Redis TTL(신선도 TTL + 유예 시간) 동안은 이전 값을 응답
+ */
+@Getter
+@RequiredArgsConstructor
+public class CacheEnvelope implements Serializable {
+    
+    private final Object value;         //캐시 값(저장 형태)
+    private final long   freshUntil;    //신선도 만료 일시(epoch ms)
+    
+    public boolean isStale() {
+        return System.currentTimeMillis() >= freshUntil;
+    }
+    
+}
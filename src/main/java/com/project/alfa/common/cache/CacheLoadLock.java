@@ -0,0 +1,86 @@
+package com.project.alfa.common.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 적재 잠금
+ * 여러 서버에서 같은 키를 동시에 적재하지 않도록 짧은 TTL의 Redis 잠금(SET NX PX)을 사용
+ * 잠금은 적재한 값이 캐시에 반영될 때(트랜잭션 종료 시)까지 유지되며, 서버가 중단되어도 TTL이 지나면 해제됨
+ */
+public class CacheLoadLock {
+    
+    private static final String KEY_PREFIX = "cache:lock:";
+    
+    //토큰이 일치하는 경우에만 해제(KEYS: 잠금 / ARGV: 토큰)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration            ttl;
+    private final Map<String, String> held = new ConcurrentHashMap<>();  //이 서버가 보유한 잠금 -> 토큰
+    
+    public CacheLoadLock(final StringRedisTemplate stringRedisTemplate, final Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+    }
+    
+    /**
+     * 잠금 획득 시도
+     *
+     * @param name - 잠금 이름(캐시 이름:키)
+     * @return 획득한 경우 토큰, 실패한 경우 null
+     */
+    public String tryLock(final String name) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl)))
+            return null;
+        held.put(name, token);
+        return token;
+    }
+    
+    /**
+     * 이 서버가 보유한 잠금인지 확인
+     * 같은 서버에서 적재한 값이 아직 커밋되지 않은 경우 다른 서버를 기다리지 않고 직접 적재하기 위해 사용
+     *
+     * @param name - 잠금 이름
+     * @return 보유 여부
+     */
+    public boolean isHeldLocally(final String name) {
+        return held.containsKey(name);
+    }
+    
+    /**
+     * 잠금 여부 확인
+     *
+     * @param name - 잠금 이름
+     * @return 잠금 여부
+     */
+    public boolean isLocked(final String name) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + name));
+    }
+    
+    /**
+     * 잠금 해제
+     *
+     * @param name  - 잠금 이름
+     * @param token - 획득 시 발급된 토큰
+     */
+    public void unlock(final String name, final String token) {
+        if (token == null) return;
+        held.remove(name, token);
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(KEY_PREFIX + name), token);
+    }
+    
+    public Duration getTtl() {
+        return ttl;
+    }
+    
+}
@@ -0,0 +1,39 @@
+package com.project.alfa.common.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 캐시 통계 로그
+ * 캐시 이름별 L1, L2 적중/실패 횟수를 주기적으로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheStatisticsLogger {
+    
+    private final CacheManager cacheManager;
+    
+    @Scheduled(fixedDelayString = "${cache.stats.log-interval:300000}",
+               initialDelayString = "${cache.stats.log-interval:300000}")
+    public void report() {
+        if (!(cacheManager instanceof TwoLevelCacheManager)) return;
+        
+        ((TwoLevelCacheManager) cacheManager).getTwoLevelCaches().forEach((name, cache) -> {
+            CacheStats l1 = cache.getL1Stats();
+            log.info("Cache '{}' L1: hit={}, miss={}, eviction={}, size={} / L2: hit={}, miss={}",
+                     name,
+                     l1.hitCount(),
+                     l1.missCount(),
+                     l1.evictionCount(),
+                     cache.getL1Size(),
+                     cache.getL2HitCount(),
+                     cache.getL2MissCount());
+        });
+    }
+    
+}
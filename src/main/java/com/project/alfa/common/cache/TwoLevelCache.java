@@ -0,0 +1,339 @@
+package com.project.alfa.common.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 2단계 캐시
+ * 로컬 힙 캐시(L1)를 먼저 조회하고, 없으면 원격 캐시(L2)를 조회하여 L1에 적재
+ * 변경(put/evict/clear)은 L2에 반영한 뒤 다른 서버의 L1을 무효화하도록 전파
+ *
+ * 값 적재(get(key, valueLoader), @Cacheable(sync = true))
+ * 1. 같은 서버에서 같은 키를 동시에 적재하면 먼저 시작한 요청의 결과를 함께 사용(single-flight)
+ * 2. 다른 서버가 적재 중(Redis 잠금)이면 잠금 TTL 동안 L2에 값이 저장되기를 기다림
+ * 3. 적재한 값은 트랜잭션이 커밋된 후에 저장하고, 잠금은 트랜잭션이 끝나면 해제
+ * 4. stale-while-revalidate가 설정된 캐시는 신선도가 만료된 값을 그대로 응답하고 백그라운드에서 한 번만 갱신
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    
+    private static final long POLL_INTERVAL = 50;   //다른 서버의 적재 결과 확인 간격(ms)
+    
+    private final String                                                  name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache                                                   l2;
+    private final BiConsumer<String, String>                              publisher;  //(캐시 이름, 키) 변경 전파, 키가 null이면 전체
+    private final CacheLoadLock                                           lock;
+    private final Duration                                                freshTtl;   //신선도 TTL(null이면 stale-while-revalidate 미사용)
+    private final Executor                                                refreshExecutor;
+    private final Map<String, CompletableFuture<Object>>                  loading    = new ConcurrentHashMap<>();
+    private final Set<String>                                             refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder                                               l2Hits     = new LongAdder();
+    private final LongAdder                                               l2Misses   = new LongAdder();
+    
+    public TwoLevelCache(final String name,
+                         final com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         final Cache l2,
+                         final BiConsumer<String, String> publisher,
+                         final CacheLoadLock lock,
+                         final Duration freshTtl,
+                         final Executor refreshExecutor) {
+        super(true);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.publisher = publisher;
+        this.lock = lock;
+        this.freshTtl = freshTtl;
+        this.refreshExecutor = refreshExecutor;
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+    
+    @Override
+    protected Object lookup(Object key) {
+        return unwrap(lookupRaw(key));
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object raw      = lookupRaw(key);
+        if (raw != null) {
+            if (raw instanceof CacheEnvelope && ((CacheEnvelope) raw).isStale()) refresh(key, localKey, valueLoader);
+            return (T) fromStoreValue(unwrap(raw));
+        }
+        return (T) fromStoreValue(load(key, localKey, valueLoader));
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        Object raw      = wrap(toStoreValue(value));
+        l2.put(key, raw instanceof CacheEnvelope ? raw : value);
+        l1.put(localKey, raw);
+        publisher.accept(name, localKey);
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String       localKey = toLocalKey(key);
+        Object       raw      = wrap(toStoreValue(value));
+        ValueWrapper existing = l2.putIfAbsent(key, raw instanceof CacheEnvelope ? raw : value);
+        if (existing == null) {
+            l1.put(localKey, raw);
+            publisher.accept(name, localKey);
+            return null;
+        }
+        Object existingRaw = toStoreValue(existing.get());
+        l1.put(localKey, existingRaw);
+        return toValueWrapper(unwrap(existingRaw));
+    }
+    
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        l2.evict(key);
+        l1.invalidate(localKey);
+        publisher.accept(name, localKey);
+    }
+    
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        publisher.accept(name, null);
+    }
+    
+    //==================== 무효화 전파 수신 ====================//
+    
+    /**
+     * 다른 서버에서 변경된 키를 L1에서 제거
+     *
+     * @param localKey - 캐시 키(문자열)
+     */
+    void evictLocal(final String localKey) {
+        l1.invalidate(localKey);
+    }
+    
+    /**
+     * 다른 서버에서 전체 삭제된 캐시의 L1 비우기
+     */
+    void clearLocal() {
+        l1.invalidateAll();
+    }
+    
+    //==================== 통계 ====================//
+    
+    /**
+     * L1 적중/실패 통계
+     *
+     * @return L1 통계
+     */
+    public CacheStats getL1Stats() {
+        return l1.stats();
+    }
+    
+    /**
+     * L1 보관 항목 수(추정치)
+     *
+     * @return 항목 수
+     */
+    public long getL1Size() {
+        return l1.estimatedSize();
+    }
+    
+    public long getL2HitCount() {
+        return l2Hits.sum();
+    }
+    
+    public long getL2MissCount() {
+        return l2Misses.sum();
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    /**
+     * L1, L2 순서로 저장 형태의 값(CacheEnvelope 포함) 조회
+     */
+    private Object lookupRaw(final Object key) {
+        String localKey = toLocalKey(key);
+        Object value    = l1.getIfPresent(localKey);
+        if (value != null) return value;
+        
+        ValueWrapper wrapper = l2.get(key);
+        if (wrapper == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        Object raw = toStoreValue(wrapper.get());
+        l1.put(localKey, raw);
+        return raw;
+    }
+    
+    /**
+     * 값 적재(single-flight)
+     * 같은 키를 적재 중인 요청이 있으면 그 결과를 기다리고, 없으면 직접 적재
+     *
+     * @return 저장 형태의 값
+     */
+    private Object load(final Object key, final String localKey, final Callable<?> valueLoader) {
+        CompletableFuture<Object> future   = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loading.putIfAbsent(localKey, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        
+        try {
+            Object storeValue = loadAcrossNodes(key, localKey, valueLoader);
+            future.complete(storeValue);
+            return storeValue;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(localKey, future);
+        }
+    }
+    
+    /**
+     * 다른 서버와 중복되지 않도록 잠금을 획득한 뒤 적재
+     * 다른 서버가 적재 중이면 L2에 값이 저장되거나 잠금이 풀릴 때까지 기다리고, 잠금 TTL이 지나면 직접 적재
+     */
+    private Object loadAcrossNodes(final Object key, final String localKey, final Callable<?> valueLoader) {
+        String lockName = name + ":" + localKey;
+        String token    = lock.tryLock(lockName);
+        
+        if (token == null && !lock.isHeldLocally(lockName)) {
+            long deadline = System.currentTimeMillis() + lock.getTtl().toMillis();
+            while (System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(POLL_INTERVAL);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                ValueWrapper wrapper = l2.get(key);
+                if (wrapper != null) {
+                    Object raw = toStoreValue(wrapper.get());
+                    l1.put(localKey, raw);
+                    return unwrap(raw);
+                }
+                if (!lock.isLocked(lockName)) break;
+            }
+            token = lock.tryLock(lockName);
+        }
+        
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Throwable e) {
+            lock.unlock(lockName, token);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        putAfterCommit(key, value, lockName, token);
+        return toStoreValue(value);
+    }
+    
+    /**
+     * 신선도가 만료된 값을 백그라운드에서 갱신
+     * 같은 키의 갱신은 서버 내에서 한 번, 서버 간에는 잠금을 획득한 한 서버에서만 수행
+     */
+    private void refresh(final Object key, final String localKey, final Callable<?> valueLoader) {
+        if (!refreshing.add(localKey)) return;
+        
+        String lockName = name + ":" + localKey;
+        try {
+            refreshExecutor.execute(() -> {
+                String token = lock.tryLock(lockName);
+                try {
+                    if (token == null) return;
+                    putAfterCommit(key, valueLoader.call(), lockName, token);
+                } catch (Throwable e) {
+                    log.warn("Failed to refresh cache '{}' key '{}'", name, localKey, e);
+                    lock.unlock(lockName, token);
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            //갱신 스레드가 부족하면 이번 요청에서는 갱신하지 않고 이전 값을 응답
+            refreshing.remove(localKey);
+        }
+    }
+    
+    /**
+     * 적재한 값을 트랜잭션이 커밋된 후에 저장하고, 트랜잭션이 끝나면 잠금 해제
+     * 진행 중인 트랜잭션이 없으면 즉시 저장 후 해제
+     */
+    private void putAfterCommit(final Object key, final Object value, final String lockName, final String token) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                put(key, value);
+            } finally {
+                lock.unlock(lockName, token);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(key, value);
+            }
+            
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock(lockName, token);
+            }
+        });
+    }
+    
+    /**
+     * stale-while-revalidate가 설정된 캐시는 신선도 만료 일시와 함께 저장
+     */
+    private Object wrap(final Object storeValue) {
+        if (freshTtl == null) return storeValue;
+        return new CacheEnvelope(storeValue, System.currentTimeMillis() + freshTtl.toMillis());
+    }
+    
+    private static Object unwrap(final Object raw) {
+        Object value = raw instanceof CacheEnvelope ? ((CacheEnvelope) raw).getValue() : raw;
+        //역직렬화된 NullValue는 싱글톤이 아니므로 다시 맞춰줌
+        return value instanceof NullValue ? NullValue.INSTANCE : value;
+    }
+    
+    /**
+     * L1 캐시 키
+     * 서버 간 무효화 메시지로 주고받을 수 있도록 L2(Redis) 키와 같은 문자열 형태 사용
+     */
+    private static String toLocalKey(final Object key) {
+        return String.valueOf(key);
+    }
+    
+}
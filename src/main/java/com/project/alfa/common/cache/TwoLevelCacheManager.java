@@ -0,0 +1,135 @@
+package com.project.alfa.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 2단계 캐시 매니저
+ * 캐시 이름마다 크기가 제한된 로컬 힙 캐시(L1, Caffeine W-TinyLFU)를 Redis 캐시(L2) 앞에 두고,
+ * 변경은 Redis Pub/Sub 채널로 전파하여 다른 서버의 L1을 무효화
+ *
+ * 무효화 메시지: {서버 식별자}|{캐시 이름}|E|{키} (키 삭제), {서버 식별자}|{캐시 이름}|C (전체 삭제)
+ * 신선도 TTL이 지정된 캐시는 stale-while-revalidate로 동작
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+    
+    public static final String CHANNEL = "cache:invalidation";
+    
+    private static final String SEPARATOR = "|";
+    
+    private final String                     instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches     = new ConcurrentHashMap<>();
+    private final RedisCacheManager          redisCacheManager;
+    private final StringRedisTemplate        stringRedisTemplate;
+    private final long                       l1MaximumSize;    //캐시 이름별 L1 최대 항목 수
+    private final Duration                   l1MaximumTtl;     //L1 최대 보관 시간(L2 TTL이 더 짧으면 L2 TTL)
+    private final CacheLoadLock              loadLock;
+    private final Map<String, Duration>      freshTtls;        //캐시 이름 -> 신선도 TTL(stale-while-revalidate 캐시)
+    private final Executor                   refreshExecutor;
+    
+    public TwoLevelCacheManager(final RedisCacheManager redisCacheManager,
+                                final StringRedisTemplate stringRedisTemplate,
+                                final long l1MaximumSize,
+                                final Duration l1MaximumTtl,
+                                final CacheLoadLock loadLock,
+                                final Map<String, Duration> freshTtls,
+                                final Executor refreshExecutor) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.l1MaximumSize = l1MaximumSize;
+        this.l1MaximumTtl = l1MaximumTtl;
+        this.loadLock = loadLock;
+        this.freshTtls = freshTtls;
+        this.refreshExecutor = refreshExecutor;
+    }
+    
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache l2 = redisCacheManager.getCache(name);
+        if (l2 == null) return null;
+        
+        //L1은 무효화 메시지가 유실되더라도 L2보다 오래 남지 않도록 L2 TTL 이하로 보관
+        Duration ttl = l1MaximumTtl;
+        if (l2 instanceof RedisCache) {
+            Duration l2Ttl = ((RedisCache) l2).getCacheConfiguration().getTtl();
+            if (!l2Ttl.isZero() && !l2Ttl.isNegative() && l2Ttl.compareTo(ttl) < 0) ttl = l2Ttl;
+        }
+        
+        TwoLevelCache cache = new TwoLevelCache(name,
+                                                Caffeine.newBuilder()
+                                                        .maximumSize(l1MaximumSize)
+                                                        .expireAfterWrite(ttl)
+                                                        .recordStats()
+                                                        .build(),
+                                                l2,
+                                                this::publish,
+                                                loadLock,
+                                                freshTtls.get(name),
+                                                refreshExecutor);
+        caches.put(name, cache);
+        return cache;
+    }
+    
+    /**
+     * 2단계 캐시 목록(통계 조회용)
+     *
+     * @return 캐시 이름 -> 2단계 캐시
+     */
+    public Map<String, TwoLevelCache> getTwoLevelCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+    
+    /**
+     * 다른 서버의 무효화 메시지 수신
+     * 자신이 보낸 메시지는 무시
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || instanceId.equals(parts[0])) return;
+        
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) return;
+        if ("C".equals(parts[2])) cache.clearLocal();
+        else if (parts.length == 4) cache.evictLocal(parts[3]);
+    }
+    
+    /**
+     * 변경 전파
+     *
+     * @param cacheName - 캐시 이름
+     * @param key       - 변경된 키(전체 삭제인 경우 null)
+     */
+    private void publish(final String cacheName, final String key) {
+        String body = instanceId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "C" : "E" + SEPARATOR + key);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, body);
+        } catch (RuntimeException e) {
+            //전파에 실패한 변경은 다른 서버의 L1 TTL이 지나면 반영됨
+            log.warn("Failed to publish cache invalidation: {}", body, e);
+        }
+    }
+    
+}
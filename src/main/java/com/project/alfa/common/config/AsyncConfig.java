@@ -0,0 +1,115 @@
+package com.project.alfa.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+    
+    /**
+     * 기본 비동기(@Async, MVC 비동기 요청) 실행용 스레드 풀(메일 발송)
+     * 다른 스레드 풀 빈이 있으면 Spring Boot 기본 스레드 풀(applicationTaskExecutor)이 등록되지 않고
+     * 작업마다 스레드를 새로 만들게 되므로 같은 이름으로 직접 등록하며, 대기열이 가득 차면 호출한 스레드에서 직접 실행
+     *
+     * @return 스레드 풀
+     */
+    @Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+    public ThreadPoolTaskExecutor taskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("task-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+    
+    /**
+     * 대시보드 위젯 조회용 스레드 풀
+     * 스레드 수와 대기열 크기를 제한하고, 대기열이 가득 차면 호출한 스레드에서 직접 실행
+     *
+     * @return 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(5);
+        executor.setMaxPoolSize(10);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+    
+    /**
+     * 캐시 백그라운드 갱신(stale-while-revalidate)용 스레드 풀
+     * 대기열이 가득 차면 갱신 요청을 거부하고 이전 값을 응답하며, 다음 요청에서 다시 갱신을 시도
+     *
+     * @return 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("cache-refresh-");
+        return executor;
+    }
+    
+    /**
+     * 탈퇴 회원 데이터 삭제용 스레드 풀
+     * 삭제 작업이 DB 커넥션을 오래 점유하지 않도록 스레드 수를 제한하고, 대기열이 가득 차면 거부하여 다음 재개 주기에 다시 실행
+     *
+     * @return 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor memberPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("member-purge-");
+        return executor;
+    }
+    
+    /**
+     * 프로필 사진 크기별 변환용 스레드 풀
+     * 디코딩/축소는 CPU와 메모리를 많이 사용하므로 스레드 수를 제한하고, 대기열이 가득 차면 거부하여 원본으로 응답
+     *
+     * @return 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("image-");
+        return executor;
+    }
+    
+    /**
+     * 저장 파일 삭제용 스레드 풀
+     * 트랜잭션이 커밋된 후 참조가 없어진 파일을 삭제하며, 대기열이 가득 차면 거부하여 다음 정리 주기에 다시 삭제
+     *
+     * @return 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileDeleteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("file-delete-");
+        return executor;
+    }
+    
+}
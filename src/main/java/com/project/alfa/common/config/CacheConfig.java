@@ -1,6 +1,10 @@
 package com.project.alfa.common.config;
 
-import org.springframework.cache.CacheManager;
+import com.project.alfa.common.cache.CacheLoadLock;
+import com.project.alfa.common.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.KeyGenerator;
@@ -10,29 +14,106 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @EnableCaching
 @Configuration
 public class CacheConfig extends CachingConfigurerSupport {
     
+    @Value("${cache.l1.maximum-size:10000}")
+    private long         l1MaximumSize;
+    @Value("${cache.l1.ttl:60}")
+    private long         l1Ttl;
+    @Value("${cache.load-lock.ttl:5}")
+    private long         loadLockTtl;
+    @Value("${cache.swr.caches:}")
+    private List<String> swrCaches;
+    @Value("${cache.swr.stale-window:300}")
+    private long         staleWindow;
+    
+    /**
+     * 2단계 캐시 매니저
+     * Redis 캐시(L2) 앞에 로컬 힙 캐시(L1)를 두고, 트랜잭션이 커밋된 후에 캐시 변경을 반영
+     * stale-while-revalidate 캐시는 설정된 TTL을 신선도 TTL로 사용하고, Redis에는 유예 시간만큼 더 보관
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             RedisSerializer<Object> redisValueSerializer,
+                                             @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                             ObjectProvider<PlatformTransactionManager> transactionManager) {
+        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig(Thread.currentThread()
+                                                                                                 .getContextClassLoader())
+                                                                       .entryTtl(Duration.ofHours(1))
+                                                                       .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                                                               new StringRedisSerializer()))
+                                                                       .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                                                               redisValueSerializer));
+        //목록/검색 페이지 캐시는 세대 번호로 무효화되므로 이전 세대의 캐시가 오래 남지 않도록 짧은 TTL 적용
+        RedisCacheConfiguration pageConfig = defaultConfig.entryTtl(Duration.ofMinutes(5));
+        
+        Map<String, RedisCacheConfiguration> configs = new HashMap<>();
+        configs.put("postCache", defaultConfig);
+        configs.put("postList", pageConfig);
+        configs.put("searchList", pageConfig);
+        configs.put("dashboard", defaultConfig.entryTtl(Duration.ofSeconds(10)));
+        
+        Map<String, Duration> freshTtls = new HashMap<>();
+        for (String name : swrCaches) {
+            RedisCacheConfiguration config = configs.getOrDefault(name, defaultConfig);
+            freshTtls.put(name, config.getTtl());
+            configs.put(name, config.entryTtl(config.getTtl().plusSeconds(staleWindow)));
+        }
+        
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                                                               .cacheDefaults(defaultConfig)
+                                                               .withInitialCacheConfigurations(configs)
+                                                               .build();
+        redisCacheManager.initializeCaches();
+        
+        //백그라운드 갱신은 요청 스레드의 트랜잭션 밖에서 실행되므로 읽기 전용 트랜잭션 안에서 적재
+        //(트랜잭션 매니저는 캐시 매니저보다 늦게 생성될 수 있으므로 실행 시점에 조회)
+        Executor refreshExecutor = task -> cacheRefreshExecutor.execute(() -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> task.run());
+        });
+        
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager,
+                                                                     stringRedisTemplate,
+                                                                     l1MaximumSize,
+                                                                     Duration.ofSeconds(l1Ttl),
+                                                                     new CacheLoadLock(stringRedisTemplate,
+                                                                                       Duration.ofSeconds(loadLockTtl)),
+                                                                     freshTtls,
+                                                                     refreshExecutor);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+    
+    /**
+     * 다른 서버에서 발생한 캐시 변경을 수신하여 L1 무효화
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        return RedisCacheManager.builder(redisConnectionFactory)
-                                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig(Thread.currentThread()
-                                                                                                .getContextClassLoader())
-                                                                      .entryTtl(Duration.ofHours(1))
-                                                                      .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                                                                              new StringRedisSerializer()))
-                                                                      .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                                                                              new JdkSerializationRedisSerializer(
-                                                                                      getClass().getClassLoader()))))
-                                .transactionAware()
-                                .build();
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+        return container;
     }
     
     @Override
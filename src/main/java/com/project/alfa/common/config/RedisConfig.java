@@ -1,5 +1,6 @@
 package com.project.alfa.common.config;
 
+import com.project.alfa.common.serializer.CompactRedisSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +10,7 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -20,6 +22,10 @@ public class RedisConfig {
     private int    port;
     @Value("${spring.redis.password}")
     private String password;
+    @Value("${redis.serializer.type:compact}")
+    private String serializerType;
+    @Value("${redis.serializer.compression-threshold:1024}")
+    private int    compressionThreshold;
     
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -28,14 +34,27 @@ public class RedisConfig {
         return new LettuceConnectionFactory(redisStandaloneConfiguration);
     }
     
+    /**
+     * 값 직렬화 방식
+     * compact: Kryo 바이너리 + 임계값 이상 압축(기본), jdk: JDK 직렬화
+     * compact는 JDK 직렬화 값도 읽을 수 있으므로, 배포 중 이전 서버와 값을 공유해야 하면 jdk로 먼저 배포한 뒤 전환
+     *
+     * @return 값 직렬화 객체
+     */
+    @Bean
+    public RedisSerializer<Object> redisValueSerializer() {
+        if ("jdk".equalsIgnoreCase(serializerType)) return new JdkSerializationRedisSerializer(getClass().getClassLoader());
+        return new CompactRedisSerializer(getClass().getClassLoader(), compressionThreshold);
+    }
+    
     @Bean
     public RedisTemplate<String, Object> redisTemplate() {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new JdkSerializationRedisSerializer(getClass().getClassLoader()));
+        redisTemplate.setValueSerializer(redisValueSerializer());
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(new JdkSerializationRedisSerializer(getClass().getClassLoader()));
+        redisTemplate.setHashValueSerializer(redisValueSerializer());
         return redisTemplate;
     }
     
@@ -44,9 +63,9 @@ public class RedisConfig {
         StringRedisTemplate stringRedisTemplate = new StringRedisTemplate();
         stringRedisTemplate.setConnectionFactory(redisConnectionFactory());
         stringRedisTemplate.setKeySerializer(new StringRedisSerializer());
-        stringRedisTemplate.setValueSerializer(new JdkSerializationRedisSerializer(getClass().getClassLoader()));
+        stringRedisTemplate.setValueSerializer(new StringRedisSerializer());
         stringRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        stringRedisTemplate.setHashValueSerializer(new JdkSerializationRedisSerializer(getClass().getClassLoader()));
+        stringRedisTemplate.setHashValueSerializer(new StringRedisSerializer());
         return stringRedisTemplate;
     }
     
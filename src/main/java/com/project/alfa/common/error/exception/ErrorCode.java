@@ -14,6 +14,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(500, "C004", "Server Error"),
     INVALID_TYPE_VALUE(400, "C005", "Invalid Type Value"),
     HANDLE_ACCESS_DENIED(403, "C006", "Access is Denied"),
+    INVALID_CURSOR(400, "C007", "Invalid Cursor"),
     
     //Member
     USERNAME_DUPLICATION(400, "M001", "Username is Duplication"),
@@ -21,15 +22,20 @@ public enum ErrorCode {
     EMAIL_AUTH_NOT_COMPLETED(400, "M003", "Email Auth Not Completed"),
     LOGIN_INPUT_INVALID(400, "M004", "Login input is invalid"),
     PASSWORD_DO_NOT_MATCH(400, "M005", "Passoword don't match"),
+    INVALID_IMAGE(400, "M006", "Invalid Image"),
+    MEMBER_DISABLED(403, "M007", "Member is Disabled"),
     
     //Post
     NOT_WRITER_OF_POST(400, "P001", "Not Writer of Post"),
     
     //Comment
-    NOT_WRITER_OF_COMMENT(400, "R001", "Not Writer of Comment");
+    NOT_WRITER_OF_COMMENT(400, "R001", "Not Writer of Comment"),
     
     //Category
     
+    //File
+    FILE_SIZE_EXCEEDED(400, "F001", "File Size Exceeded");
+    
     private final int    status;
     private final String code;
     private final String message;
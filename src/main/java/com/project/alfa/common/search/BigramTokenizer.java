@@ -0,0 +1,82 @@
+package com.project.alfa.common.search;
+
+import java.util.*;
+
+/**
+ * 바이그램 토크나이저
+ * 공백 기준 형태소 분리 없이 한글을 검색할 수 있도록 문자열을 연속된 두 글자 단위로 분리
+ * 한 글자 키워드 검색을 위해 단일 글자(유니그램)도 함께 생성
+ */
+public final class BigramTokenizer {
+    
+    private static final int[] NO_POSITIONS = new int[0];
+    
+    private BigramTokenizer() {
+    }
+    
+    /**
+     * 정규화: 대소문자 구분 없이 검색되도록 소문자로 변환
+     *
+     * @param text - 문자열
+     * @return 정규화된 문자열
+     */
+    public static String normalize(final String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 필드 단위 토큰 생성
+     * 바이그램은 등장 위치를 함께 저장하여 연속 여부(부분 문자열 일치)를 확인할 수 있도록 하고,
+     * 유니그램은 등장 여부만 저장
+     *
+     * @param field - 필드 구분자
+     * @param text  - 문자열
+     * @return 토큰(필드 구분자 + 토큰) -> 등장 위치
+     */
+    public static Map<String, int[]> tokenize(final char field, final String text) {
+        String                     normalized = normalize(text);
+        Map<String, List<Integer>> positions  = new HashMap<>();
+        Map<String, int[]>         terms      = new HashMap<>();
+        
+        for (int i = 0; i < normalized.length(); i++) {
+            terms.putIfAbsent(unigram(field, normalized.charAt(i)), NO_POSITIONS);
+            if (i < normalized.length() - 1)
+                positions.computeIfAbsent(bigram(field, normalized.charAt(i), normalized.charAt(i + 1)),
+                                          key -> new ArrayList<>()).add(i);
+        }
+        
+        positions.forEach((term, list) -> terms.put(term, list.stream().mapToInt(Integer::intValue).toArray()));
+        return terms;
+    }
+    
+    /**
+     * 키워드의 바이그램 목록 생성(순서 유지)
+     *
+     * @param field   - 필드 구분자
+     * @param keyword - 키워드
+     * @return 바이그램 목록
+     */
+    public static List<String> bigrams(final char field, final String keyword) {
+        String       normalized = normalize(keyword);
+        List<String> bigrams    = new ArrayList<>();
+        for (int i = 0; i < normalized.length() - 1; i++)
+            bigrams.add(bigram(field, normalized.charAt(i), normalized.charAt(i + 1)));
+        return bigrams;
+    }
+    
+    /**
+     * 유니그램 토큰 생성
+     *
+     * @param field - 필드 구분자
+     * @param c     - 글자
+     * @return 유니그램 토큰
+     */
+    public static String unigram(final char field, final char c) {
+        return new String(new char[]{ field, c });
+    }
+    
+    private static String bigram(final char field, final char first, final char second) {
+        return new String(new char[]{ field, first, second });
+    }
+    
+}
@@ -0,0 +1,67 @@
+package com.project.alfa.common.search;
+
+import com.project.alfa.domain.Post;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 검색 색인 문서
+ * 게시글의 필터/정렬 정보와 제목, 내용, 작성자 닉네임의 토큰(필드 구분자 + 토큰 -> 등장 위치)을 보관하는 불변 객체
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PostDocument {
+    
+    private final long               id;            //게시글 PK
+    private final long               writerId;      //작성자 PK
+    private final String             nickname;      //작성자 닉네임
+    private final Long               categoryId;    //카테고리 PK
+    private final boolean            noticeYn;      //공지 여부
+    private final long               createdAt;     //작성일시(정렬용)
+    private final Map<String, int[]> terms;         //토큰 -> 등장 위치
+    
+    /**
+     * 게시글 엔티티로 검색 색인 문서 생성
+     *
+     * @param post - 게시글 엔티티
+     * @return 검색 색인 문서
+     */
+    public static PostDocument of(final Post post) {
+        Map<String, int[]> terms = new HashMap<>();
+        terms.putAll(BigramTokenizer.tokenize(PostSearchIndex.TITLE, post.getTitle()));
+        terms.putAll(BigramTokenizer.tokenize(PostSearchIndex.CONTENT, post.getContent()));
+        terms.putAll(BigramTokenizer.tokenize(PostSearchIndex.WRITER, post.getWriter().getNickname()));
+        
+        return new PostDocument(post.getId(),
+                                post.getWriter().getId(),
+                                post.getWriter().getNickname(),
+                                post.getCategory() == null ? null : post.getCategory().getId(),
+                                Boolean.TRUE.equals(post.getNoticeYn()),
+                                toEpochMilli(post.getCreatedDate()),
+                                terms);
+    }
+    
+    /**
+     * 작성자 닉네임이 변경된 검색 색인 문서 생성
+     *
+     * @param newNickname - 변경된 닉네임
+     * @return 검색 색인 문서
+     */
+    PostDocument withNickname(final String newNickname) {
+        Map<String, int[]> newTerms = new HashMap<>(terms);
+        newTerms.keySet().removeIf(term -> term.charAt(0) == PostSearchIndex.WRITER);
+        newTerms.putAll(BigramTokenizer.tokenize(PostSearchIndex.WRITER, newNickname));
+        return new PostDocument(id, writerId, newNickname, categoryId, noticeYn, createdAt, newTerms);
+    }
+    
+    private static long toEpochMilli(final LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+    
+}
@@ -0,0 +1,403 @@
+package com.project.alfa.common.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.nio.file.StandardOpenOption.*;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 게시글 검색 역색인
+ * 제목, 내용, 작성자 닉네임을 바이그램 단위로 색인하여 LIKE '%키워드%' 전체 스캔 없이 키워드가 포함된 게시글 PK를 조회
+ * 바이그램의 등장 위치를 함께 보관하므로 검색 결과는 부분 문자열 일치와 동일
+ * 메모리 매핑 파일로 스냅샷을 저장/복원하여 재시작 시 전체 재색인을 피함
+ */
+@Component
+public class PostSearchIndex {
+    
+    public static final char TITLE   = 't';   //제목 필드 구분자
+    public static final char CONTENT = 'c';   //내용 필드 구분자
+    public static final char WRITER  = 'w';   //작성자 닉네임 필드 구분자
+    
+    private static final int SNAPSHOT_MAGIC   = 0x50534958;
+    private static final int SNAPSHOT_VERSION = 1;
+    
+    private final Map<Long, PostDocument>       documents = new HashMap<>();   //게시글 PK -> 문서
+    private final Map<String, Map<Long, int[]>> postings  = new HashMap<>();   //토큰 -> (게시글 PK -> 등장 위치)
+    private final Map<Long, Set<Long>>          writers   = new HashMap<>();   //작성자 PK -> 게시글 PK
+    private final ReadWriteLock                 lock      = new ReentrantReadWriteLock();
+    
+    //==================== 색인 변경 메서드 ====================//
+    
+    /**
+     * 문서 색인(기존 문서가 있으면 교체)
+     *
+     * @param document - 검색 색인 문서
+     * @return 교체된 기존 문서
+     */
+    public PostDocument index(final PostDocument document) {
+        lock.writeLock().lock();
+        try {
+            PostDocument previous = unindex(document.getId());
+            add(document);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 문서 제거
+     *
+     * @param id - 게시글 PK
+     * @return 제거된 기존 문서
+     */
+    public PostDocument remove(final Long id) {
+        lock.writeLock().lock();
+        try {
+            return unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 작성자 닉네임 변경 반영
+     *
+     * @param writerId - 작성자 PK
+     * @param nickname - 변경된 닉네임
+     * @return 게시글 PK -> 교체된 기존 문서
+     */
+    public Map<Long, PostDocument> updateNickname(final Long writerId, final String nickname) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, PostDocument> previous = new HashMap<>();
+            for (Long id : new ArrayList<>(writers.getOrDefault(writerId, Collections.emptySet()))) {
+                PostDocument document = documents.get(id);
+                if (document == null || Objects.equals(document.getNickname(), nickname)) continue;
+                previous.put(id, unindex(id));
+                add(document.withNickname(nickname));
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 색인 초기화
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            writers.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    //==================== 조회 메서드 ====================//
+    
+    /**
+     * 색인된 게시글 PK 목록 조회
+     *
+     * @return 게시글 PK 목록
+     */
+    public Set<Long> getIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 키워드 검색
+     * 검색 조건에 해당하는 필드에 키워드가 포함된 게시글을 작성일시, PK 역순으로 정렬하여 요청한 페이지의 PK만 반환
+     *
+     * @param condition  - 검색 조건: title, content, titleOrContent, writer(그 외 전체 필드)
+     * @param keyword    - 키워드
+     * @param categoryId - 카테고리 PK(null인 경우 전체 카테고리)
+     * @param noticeYn   - 공지글 여부
+     * @param pageable   - 페이징 객체
+     * @return 게시글 PK 페이지
+     */
+    public Page<Long> search(final String condition,
+                             final String keyword,
+                             final Long categoryId,
+                             final Boolean noticeYn,
+                             Pageable pageable) {
+        List<PostDocument> matched = new ArrayList<>();
+        
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new HashSet<>();
+            for (char field : fields(condition))
+                ids.addAll(match(field, keyword));
+            
+            for (Long id : ids) {
+                PostDocument document = documents.get(id);
+                if (categoryId != null && !categoryId.equals(document.getCategoryId())) continue;
+                if (noticeYn != null && noticeYn != document.isNoticeYn()) continue;
+                matched.add(document);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        matched.sort(Comparator.comparingLong(PostDocument::getCreatedAt)
+                               .thenComparingLong(PostDocument::getId)
+                               .reversed());
+        
+        int        from    = (int) Math.min(pageable.getOffset(), matched.size());
+        int        to      = Math.min(from + pageable.getPageSize(), matched.size());
+        List<Long> content = new ArrayList<>(to - from);
+        for (PostDocument document : matched.subList(from, to))
+            content.add(document.getId());
+        return new PageImpl<>(content, pageable, matched.size());
+    }
+    
+    //==================== 스냅샷 메서드 ====================//
+    
+    /**
+     * 스냅샷 저장
+     * 임시 파일을 메모리 매핑하여 기록한 뒤 원자적으로 교체
+     *
+     * @param path    - 스냅샷 파일 경로
+     * @param takenAt - 스냅샷 기준 일시
+     * @throws IOException
+     */
+    public void writeSnapshot(final Path path, final LocalDateTime takenAt) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        
+        lock.readLock().lock();
+        try {
+            long size = 4 + 4 + 8 + 4;
+            for (PostDocument document : documents.values())
+                size += sizeOf(document);
+            if (size > Integer.MAX_VALUE) throw new IOException("Snapshot too large: " + size + " bytes");
+            
+            try (FileChannel channel = FileChannel.open(tmp, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SNAPSHOT_MAGIC);
+                buffer.putInt(SNAPSHOT_VERSION);
+                buffer.putLong(takenAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+                buffer.putInt(documents.size());
+                for (PostDocument document : documents.values())
+                    write(buffer, document);
+                buffer.force();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * 스냅샷 복원
+     * 스냅샷 파일을 메모리 매핑하여 읽은 뒤 현재 색인을 교체
+     *
+     * @param path - 스냅샷 파일 경로
+     * @return 스냅샷 기준 일시(스냅샷 파일이 없으면 null)
+     * @throws IOException
+     */
+    public LocalDateTime readSnapshot(final Path path) throws IOException {
+        if (!Files.isRegularFile(path)) return null;
+        
+        List<PostDocument> loaded = new ArrayList<>();
+        LocalDateTime      takenAt;
+        
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION)
+                throw new IOException("Invalid snapshot: " + path);
+            
+            takenAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneOffset.UTC);
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++)
+                loaded.add(read(buffer));
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted snapshot: " + path, e);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            writers.clear();
+            for (PostDocument document : loaded)
+                add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return takenAt;
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    private void add(final PostDocument document) {
+        documents.put(document.getId(), document);
+        document.getTerms().forEach((term, positions) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                                                                 .put(document.getId(), positions));
+        writers.computeIfAbsent(document.getWriterId(), key -> new HashSet<>()).add(document.getId());
+    }
+    
+    private PostDocument unindex(final Long id) {
+        PostDocument document = documents.remove(id);
+        if (document == null) return null;
+        
+        for (String term : document.getTerms().keySet()) {
+            Map<Long, int[]> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+        
+        Set<Long> posts = writers.get(document.getWriterId());
+        if (posts != null) {
+            posts.remove(id);
+            if (posts.isEmpty()) writers.remove(document.getWriterId());
+        }
+        return document;
+    }
+    
+    /**
+     * 필드 내 키워드 일치 게시글 PK 조회
+     * 한 글자 키워드는 유니그램으로, 두 글자 이상은 바이그램들이 연속된 위치에 등장하는지 확인
+     *
+     * @param field   - 필드 구분자
+     * @param keyword - 키워드
+     * @return 게시글 PK 목록
+     */
+    private Collection<Long> match(final char field, final String keyword) {
+        String normalized = BigramTokenizer.normalize(keyword);
+        if (normalized.isEmpty()) return documents.keySet();
+        if (normalized.length() == 1) {
+            Map<Long, int[]> posting = postings.get(BigramTokenizer.unigram(field, normalized.charAt(0)));
+            return posting == null ? Collections.emptySet() : posting.keySet();
+        }
+        
+        List<Map<Long, int[]>> lists    = new ArrayList<>();
+        Map<Long, int[]>       smallest = null;
+        for (String bigram : BigramTokenizer.bigrams(field, normalized)) {
+            Map<Long, int[]> posting = postings.get(bigram);
+            if (posting == null) return Collections.emptySet();
+            lists.add(posting);
+            if (smallest == null || posting.size() < smallest.size()) smallest = posting;
+        }
+        
+        List<Long> ids = new ArrayList<>();
+        for (Long id : smallest.keySet())
+            if (isPhrase(lists, id)) ids.add(id);
+        return ids;
+    }
+    
+    private static boolean isPhrase(final List<Map<Long, int[]>> lists, final Long id) {
+        int[][] positions = new int[lists.size()][];
+        for (int i = 0; i < lists.size(); i++)
+            if ((positions[i] = lists.get(i).get(id)) == null) return false;
+        
+        outer:
+        for (int start : positions[0]) {
+            for (int i = 1; i < positions.length; i++)
+                if (Arrays.binarySearch(positions[i], start + i) < 0) continue outer;
+            return true;
+        }
+        return false;
+    }
+    
+    private static char[] fields(final String condition) {
+        if (hasText(condition)) switch (condition) {
+            case "title":           //제목
+                return new char[]{ TITLE };
+            case "content":         //내용
+                return new char[]{ CONTENT };
+            case "titleOrContent":  //제목+내용
+                return new char[]{ TITLE, CONTENT };
+            case "writer":          //작성자
+                return new char[]{ WRITER };
+        }
+        return new char[]{ TITLE, CONTENT, WRITER };
+    }
+    
+    private static long sizeOf(final PostDocument document) {
+        long size = 8 + 8 + 8 + 1 + 8 + 4 + 2L * document.getNickname().length() + 4;
+        for (Map.Entry<String, int[]> entry : document.getTerms().entrySet())
+            size += 1 + 2L * entry.getKey().length() + 4 + 4L * entry.getValue().length;
+        return size;
+    }
+    
+    private static void write(final MappedByteBuffer buffer, final PostDocument document) {
+        buffer.putLong(document.getId());
+        buffer.putLong(document.getWriterId());
+        buffer.putLong(document.getCategoryId() == null ? -1L : document.getCategoryId());
+        buffer.put((byte) (document.isNoticeYn() ? 1 : 0));
+        buffer.putLong(document.getCreatedAt());
+        writeString(buffer, document.getNickname());
+        buffer.putInt(document.getTerms().size());
+        for (Map.Entry<String, int[]> entry : document.getTerms().entrySet()) {
+            buffer.put((byte) entry.getKey().length());
+            for (int i = 0; i < entry.getKey().length(); i++)
+                buffer.putChar(entry.getKey().charAt(i));
+            buffer.putInt(entry.getValue().length);
+            for (int position : entry.getValue())
+                buffer.putInt(position);
+        }
+    }
+    
+    private static PostDocument read(final MappedByteBuffer buffer) {
+        long    id         = buffer.getLong();
+        long    writerId   = buffer.getLong();
+        long    categoryId = buffer.getLong();
+        boolean noticeYn   = buffer.get() == 1;
+        long    createdAt  = buffer.getLong();
+        String  nickname   = readString(buffer);
+        
+        int                termCount = buffer.getInt();
+        Map<String, int[]> terms     = new HashMap<>(termCount * 2);
+        for (int i = 0; i < termCount; i++) {
+            char[] term = new char[buffer.get()];
+            for (int j = 0; j < term.length; j++)
+                term[j] = buffer.getChar();
+            int[] positions = new int[buffer.getInt()];
+            for (int j = 0; j < positions.length; j++)
+                positions[j] = buffer.getInt();
+            terms.put(new String(term), positions);
+        }
+        return new PostDocument(id, writerId, nickname, categoryId < 0 ? null : categoryId, noticeYn, createdAt, terms);
+    }
+    
+    private static void writeString(final MappedByteBuffer buffer, final String value) {
+        buffer.putInt(value.length());
+        for (int i = 0; i < value.length(); i++)
+            buffer.putChar(value.charAt(i));
+    }
+    
+    private static String readString(final MappedByteBuffer buffer) {
+        char[] chars = new char[buffer.getInt()];
+        for (int i = 0; i < chars.length; i++)
+            chars[i] = buffer.getChar();
+        return new String(chars);
+    }
+    
+}
@@ -0,0 +1,115 @@
+package com.project.alfa.common.search;
+
+import com.project.alfa.domain.Member;
+import com.project.alfa.domain.Post;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+
+/**
+ * 게시글 검색 색인 엔티티 리스너
+ * 게시글 저장/수정/삭제, 회원 닉네임 변경이 DB에 반영(flush)되는 시점에 변경된 문서를 모아두고,
+ * 트랜잭션이 커밋된 후에 검색 색인에 반영(롤백되면 반영하지 않음)
+ */
+public class PostSearchIndexListener {
+    
+    //트랜잭션별 반영 대기 변경 사항 리소스 키
+    private static final Object PENDING_KEY = PostSearchIndexListener.class.getName() + ".PENDING";
+    
+    private final ObjectProvider<PostSearchIndex> postSearchIndex;
+    
+    public PostSearchIndexListener(ObjectProvider<PostSearchIndex> postSearchIndex) {
+        this.postSearchIndex = postSearchIndex;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Post) {
+            PostDocument document = PostDocument.of((Post) entity);
+            record(pending -> pending.documents.put(document.getId(), document));
+        } else if (entity instanceof Member) {
+            Member member = (Member) entity;
+            record(pending -> pending.nicknames.put(member.getId(), member.getNickname()));
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (!(entity instanceof Post)) return;
+        
+        Long id = ((Post) entity).getId();
+        record(pending -> pending.documents.put(id, null));
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    /**
+     * 변경 사항 기록
+     * 트랜잭션 내에서 처음 변경된 경우 커밋 후 반영 작업을 등록하고, 진행 중인 트랜잭션이 없으면 즉시 반영
+     *
+     * @param change - 기록할 변경 사항
+     */
+    private void record(final Consumer<Pending> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Pending pending = new Pending();
+            change.accept(pending);
+            apply(pending);
+            return;
+        }
+        
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Pending registered = new Pending();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            runAfterCommit(() -> apply(registered));
+            pending = registered;
+        }
+        change.accept(pending);
+    }
+    
+    /**
+     * 변경 사항 반영
+     * 게시글 문서를 먼저 반영한 뒤 닉네임 변경을 반영하며, 반영한 변경 사항은 비움
+     *
+     * @param pending - 반영 대기 변경 사항
+     */
+    private void apply(final Pending pending) {
+        PostSearchIndex index = postSearchIndex.getIfAvailable();
+        if (index != null) {
+            pending.documents.forEach((id, document) -> {
+                if (document == null) index.remove(id);
+                else index.index(document);
+            });
+            pending.nicknames.forEach(index::updateNickname);
+        }
+        pending.documents.clear();
+        pending.nicknames.clear();
+    }
+    
+    /**
+     * 트랜잭션별 반영 대기 변경 사항
+     */
+    private static class Pending {
+        
+        private final Map<Long, PostDocument> documents = new LinkedHashMap<>();  //게시글 PK -> 문서(삭제된 경우 null)
+        private final Map<Long, String>       nicknames = new LinkedHashMap<>();  //회원 PK -> 닉네임
+        
+    }
+    
+}
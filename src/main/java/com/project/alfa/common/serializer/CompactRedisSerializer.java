@@ -0,0 +1,201 @@
+package com.project.alfa.common.serializer;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.CompatibleFieldSerializer;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
+import lombok.extern.slf4j.Slf4j;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 값 직렬화
+ * Kryo(CompatibleFieldSerializer)로 필드 이름 기반의 바이너리 형식으로 직렬화하여, 필드가 추가/삭제되어도 이전 값을 읽을 수 있음
+ *
+ * 형식: [MAGIC(1)][VERSION(1)][FLAGS(1)][본문]
+ * 1. FLAGS & DEFLATED - 본문이 압축 임계값 이상이면 Deflate로 압축
+ * 2. FLAGS & JDK      - Kryo로 직렬화할 수 없는 값은 JDK 직렬화로 저장
+ * 3. 헤더가 없는 JDK 직렬화 값(이전 버전에서 저장된 값)은 그대로 읽음
+ * 4. 더 높은 VERSION(이후 버전에서 저장된 값)이나 읽을 수 없는 값은 null(캐시 미스)로 처리
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    
+    private static final byte MAGIC    = (byte) 0xC5;
+    private static final byte VERSION  = 1;
+    private static final byte DEFLATED = 0x01;
+    private static final byte JDK      = 0x02;
+    private static final int  HEADER   = 3;
+    
+    private static final Class<?> ARRAYS_AS_LIST = Arrays.asList().getClass();
+    
+    private final Pool<Kryo>                      kryoPool;
+    private final JdkSerializationRedisSerializer jdkSerializer;
+    private final int                             compressionThreshold;   //압축 임계값(byte)
+    
+    public CompactRedisSerializer(final ClassLoader classLoader, final int compressionThreshold) {
+        this.kryoPool = new Pool<Kryo>(true, false, 16) {
+            @Override
+            protected Kryo create() {
+                return createKryo(classLoader);
+            }
+        };
+        this.jdkSerializer = new JdkSerializationRedisSerializer(classLoader);
+        this.compressionThreshold = compressionThreshold;
+    }
+    
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) return new byte[0];
+        
+        byte   flags = 0;
+        byte[] body;
+        try {
+            body = writeKryo(value);
+        } catch (KryoException e) {
+            log.debug("Falling back to JDK serialization for {}", value.getClass().getName(), e);
+            body = jdkSerializer.serialize(value);
+            flags |= JDK;
+        }
+        if (body.length >= compressionThreshold) {
+            body = deflate(body);
+            flags |= DEFLATED;
+        }
+        
+        byte[] bytes = new byte[HEADER + body.length];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        bytes[2] = flags;
+        System.arraycopy(body, 0, bytes, HEADER, body.length);
+        return bytes;
+    }
+    
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        
+        //헤더가 없는 JDK 직렬화 값(0xACED 스트림 헤더)
+        if (bytes.length >= 2 && bytes[0] == (byte) 0xAC && bytes[1] == (byte) 0xED)
+            return jdkSerializer.deserialize(bytes);
+        if (bytes.length < HEADER || bytes[0] != MAGIC || bytes[1] > VERSION) {
+            log.warn("Unreadable cache value (header: {})", bytes.length < HEADER ? "short" : bytes[0] + "/" + bytes[1]);
+            return null;
+        }
+        
+        byte   flags = bytes[2];
+        byte[] body  = Arrays.copyOfRange(bytes, HEADER, bytes.length);
+        try {
+            if ((flags & DEFLATED) != 0) body = inflate(body);
+            return (flags & JDK) != 0 ? jdkSerializer.deserialize(body) : readKryo(body);
+        } catch (KryoException | SerializationException | DataFormatException e) {
+            //클래스 구조가 호환되지 않게 바뀐 경우 등은 캐시 미스로 처리하여 다시 적재되도록 함
+            log.warn("Failed to deserialize cache value", e);
+            return null;
+        }
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    private byte[] writeKryo(final Object value) {
+        Kryo kryo = kryoPool.obtain();
+        try (Output output = new Output(256, -1)) {
+            kryo.writeClassAndObject(output, value);
+            return output.toBytes();
+        } catch (KryoException e) {
+            kryo.reset();   //실패한 직렬화의 참조/깊이 상태 초기화 후 풀에 반환
+            throw e;
+        } finally {
+            kryoPool.free(kryo);
+        }
+    }
+    
+    private Object readKryo(final byte[] body) {
+        Kryo kryo = kryoPool.obtain();
+        try (Input input = new Input(body)) {
+            return kryo.readClassAndObject(input);
+        } catch (KryoException e) {
+            kryo.reset();
+            throw e;
+        } finally {
+            kryoPool.free(kryo);
+        }
+    }
+    
+    private static Kryo createKryo(final ClassLoader classLoader) {
+        Kryo kryo = new Kryo();
+        kryo.setClassLoader(classLoader);
+        kryo.setRegistrationRequired(false);    //클래스 이름으로 기록하여 클래스 등록 순서에 의존하지 않음
+        kryo.setReferences(true);
+        kryo.setDefaultSerializer(CompatibleFieldSerializer.class);
+        //기본 생성자가 없는 불변 DTO 지원
+        kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+        kryo.addDefaultSerializer(ARRAYS_AS_LIST, new ArraysAsListSerializer());
+        return kryo;
+    }
+    
+    private static byte[] deflate(final byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out    = new ByteArrayOutputStream(body.length / 2);
+            byte[]                buffer = new byte[4096];
+            while (!deflater.finished()) out.write(buffer, 0, deflater.deflate(buffer));
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private static byte[] inflate(final byte[] body) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(body);
+            ByteArrayOutputStream out    = new ByteArrayOutputStream(body.length * 3);
+            byte[]                buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new DataFormatException("Truncated compressed value");
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+    
+    /**
+     * Arrays.asList()로 생성된 목록 직렬화(기본 생성자가 없고 요소를 추가할 수 없어 기본 CollectionSerializer로 읽을 수 없음)
+     */
+    private static class ArraysAsListSerializer extends Serializer<List<?>> {
+        
+        @Override
+        public void write(Kryo kryo, Output output, List<?> list) {
+            output.writeVarInt(list.size(), true);
+            for (Object element : list) kryo.writeClassAndObject(output, element);
+        }
+        
+        @Override
+        public List<?> read(Kryo kryo, Input input, Class<? extends List<?>> type) {
+            Object[] elements = new Object[input.readVarInt(true)];
+            for (int i = 0; i < elements.length; i++) elements[i] = kryo.readClassAndObject(input);
+            return Arrays.asList(elements);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,165 @@
+package com.project.alfa.common.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 저장 파일 응답
+ * 파일 내용을 힙 버퍼에 올리지 않고 응답하며, 조건부 요청(ETag, Last-Modified)과 단일 Range 요청을 지원
+ *
+ * 1. 서블릿 컨테이너가 sendfile을 지원하면(Tomcat NIO) 파일 경로만 넘겨 커널에서 바로 전송하고 요청 스레드를 반환
+ * 2. 지원하지 않으면 FileChannel.transferTo로 전송하며, 요청 스레드를 점유하므로 동시 전송 수를 제한(초과 시 503 응답)
+ * 3. 여러 구간의 Range 요청(multipart/byteranges)은 지원하지 않고 전체 파일로 응답
+ */
+@Component
+public class FileSender {
+    
+    //Tomcat sendfile 요청 속성(org.apache.tomcat.util.net.Constants / Globals)
+    private static final String SENDFILE_SUPPORT  = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START    = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END      = "org.apache.tomcat.sendfile.end";
+    
+    private final Semaphore transfers;  //transferTo 동시 전송 수
+    
+    public FileSender(@Value("${file.download.max-concurrent:20}") final int maxConcurrent) {
+        this.transfers = new Semaphore(maxConcurrent);
+    }
+    
+    /**
+     * 파일 응답
+     *
+     * @param request      - 요청
+     * @param response     - 응답
+     * @param path         - 파일 경로
+     * @param etag         - ETag(따옴표 제외)
+     * @param contentType  - 응답 형식
+     * @param cacheControl - 캐시 정책
+     * @throws IOException
+     */
+    public void send(final HttpServletRequest request,
+                     final HttpServletResponse response,
+                     final Path path,
+                     final String etag,
+                     final MediaType contentType,
+                     final CacheControl cacheControl) throws IOException {
+        if (!Files.isReadable(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long length       = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        
+        //If-None-Match, If-Modified-Since 확인(일치하면 304 응답), ETag와 Last-Modified 헤더 추가
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) return;
+        
+        boolean sendfile = Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT));
+        if (!sendfile && !transfers.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        try {
+            //요청 구간(If-Range가 일치하지 않으면 전체 파일)
+            long start = 0;
+            long end   = length - 1;
+            if (request.getHeader(HttpHeaders.RANGE) != null && matchesIfRange(request, etag, lastModified)) {
+                try {
+                    List<HttpRange> ranges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+                    if (ranges.size() == 1) {
+                        start = ranges.get(0).getRangeStart(length);
+                        end = ranges.get(0).getRangeEnd(length);
+                        //시작 위치가 파일 크기 이상이면 만족할 수 없는 구간(HttpRange는 시작 위치를 검증하지 않음)
+                        if (start >= length) throw new IllegalArgumentException("Range start exceeds length");
+                        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                    }
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+            }
+            
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(end - start + 1);
+            if ("HEAD".equals(request.getMethod()) || end < start) return;
+            
+            if (sendfile) {
+                request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+            transfer(path, start, end - start + 1, response);
+        } finally {
+            if (!sendfile) transfers.release();
+        }
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    /**
+     * If-Range 확인
+     * ETag는 강한 비교(W/ 접두사는 일치하지 않음), 날짜는 초 단위로 비교
+     *
+     * @param request      - 요청
+     * @param etag         - ETag(따옴표 제외)
+     * @param lastModified - 최종 수정 일시(ms)
+     * @return Range 적용 여부(If-Range가 없으면 true)
+     */
+    private boolean matchesIfRange(final HttpServletRequest request, final String etag, final long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) return ifRange.equals("\"" + etag + "\"");
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * 파일 구간 전송
+     * 응답 스트림으로 FileChannel.transferTo를 반복 호출하며, 파일 전체를 힙에 올리지 않음
+     *
+     * @param path     - 파일 경로
+     * @param position - 시작 위치
+     * @param count    - 전송할 크기
+     * @param response - 응답
+     * @throws IOException
+     */
+    private void transfer(final Path path, final long position, final long count, final HttpServletResponse response)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out  = Channels.newChannel(response.getOutputStream());
+            long                sent = 0;
+            while (sent < count) {
+                long transferred = channel.transferTo(position + sent, count - sent, out);
+                if (transferred <= 0) break;    //파일이 전송 중에 줄어든 경우
+                sent += transferred;
+            }
+        }
+        response.flushBuffer();
+    }
+    
+}
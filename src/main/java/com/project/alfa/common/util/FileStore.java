@@ -1,13 +1,28 @@
 package com.project.alfa.common.util;
 
+import com.project.alfa.common.error.exception.ErrorCode;
+import com.project.alfa.common.error.exception.InvalidValueException;
 import com.project.alfa.domain.UploadFile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -16,8 +31,13 @@ import java.util.UUID;
 @Component
 public class FileStore {
     
+    private static final int    BUFFER_SIZE = 64 * 1024;  //저장 시 복사 버퍼 크기
+    private static final String TEMP_DIR    = "tmp/";     //임시 저장 디렉토리
+    
     @Value("${file.upload.location}")
-    private String fileDir;
+    private String   fileDir;
+    @Value("${file.upload.max-size:10MB}")
+    private DataSize maxFileSize;   //파일 1개의 최대 크기
     
     /**
      * 파일 전체 경로
@@ -30,7 +50,19 @@ public class FileStore {
     }
     
     /**
-     * 다중 파일 저장
+     * 내용 해시 경로
+     * 한 디렉토리에 파일이 몰리지 않도록 해시의 앞 2자리, 다음 2자리로 2단계 하위 디렉토리에 저장
+     * ex) ab/cd/abcdef...
+     *
+     * @param contentHash - 내용 해시
+     * @return 파일 전체 경로
+     */
+    public String getContentPath(String contentHash) {
+        return getFullPath(contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash);
+    }
+    
+    /**
+     * 다중 파일 임시 저장
      *
      * @param multipartFiles - 첨부 파일 리스트
      * @return
@@ -45,7 +77,8 @@ public class FileStore {
     }
     
     /**
-     * 단일 파일 저장
+     * 단일 파일 임시 저장
+     * 업로드 크기가 제한을 초과하면 읽기 전에 거부
      *
      * @param multipartFile - 첨부 파일
      * @return
@@ -54,45 +87,125 @@ public class FileStore {
      */
     public UploadFile storeFile(MultipartFile multipartFile) throws IllegalStateException, IOException {
         if (multipartFile.isEmpty()) return null;
+        if (multipartFile.getSize() > maxFileSize.toBytes())
+            throw new InvalidValueException("File size exceeded: " + multipartFile.getSize(),
+                                            ErrorCode.FILE_SIZE_EXCEEDED);
         
-        String originalFilename = multipartFile.getOriginalFilename();
-        String storeFilename    = createStoreFilename(originalFilename);
+        try (InputStream in = multipartFile.getInputStream()) {
+            return storeFile(in, multipartFile.getOriginalFilename());
+        }
+    }
+    
+    /**
+     * 입력 스트림 임시 저장
+     * 고정 크기 버퍼로 임시 디렉토리에 복사하면서 크기와 내용 해시를 계산하므로, 파일 전체를 메모리에 올리지 않음
+     * 복사 중 크기 제한을 초과하거나 오류가 발생하면 저장 중이던 파일을 삭제
+     * 임시 파일은 publish로 내용 해시 경로에 옮겨야 하며, 반환된 파일 정보의 저장 경로는 임시 파일 경로
+     *
+     * @param in               - 입력 스트림
+     * @param originalFilename - 원래 파일명
+     * @return 임시 저장된 파일 정보(저장 파일명은 내용 해시)
+     * @throws IOException
+     */
+    public UploadFile storeFile(InputStream in, String originalFilename) throws IOException {
+        String tempPath = getFullPath(TEMP_DIR + UUID.randomUUID() + ".tmp");
+        Path   path     = Paths.get(tempPath);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
         
-        File file = new File(getFullPath(storeFilename));
-        file.mkdirs();
-        multipartFile.transferTo(file);
+        MessageDigest digest = sha256();
+        long          size   = 0;
+        byte[]        buffer = new byte[BUFFER_SIZE];
+        boolean       stored = false;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxFileSize.toBytes())
+                    throw new InvalidValueException("File size exceeded: " + originalFilename,
+                                                    ErrorCode.FILE_SIZE_EXCEEDED);
+                digest.update(buffer, 0, read);
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) channel.write(byteBuffer);
+            }
+            stored = true;
+        } finally {
+            if (!stored) Files.deleteIfExists(path);
+        }
         
-        return new UploadFile(originalFilename, storeFilename, getFullPath(storeFilename), multipartFile.getSize()) {};
+        String contentHash = toHex(digest.digest());
+        return new UploadFile(originalFilename, contentHash, tempPath, size, contentHash) {};
     }
     
     /**
-     * 저장된 파일 삭제
+     * 임시 파일을 내용 해시 경로로 이동
+     * 같은 내용의 파일이 이미 있으면 임시 파일만 삭제하여 한 번만 저장
+     * 같은 내용 해시에 대한 삭제와 동시에 실행되지 않도록 호출한 쪽에서 잠금 필요
+     *
+     * @param tempPath    - 임시 파일 경로
+     * @param contentHash - 내용 해시
+     * @return 파일 전체 경로
+     * @throws IOException
+     */
+    public String publish(String tempPath, String contentHash) throws IOException {
+        String contentPath = getContentPath(contentHash);
+        Path   target      = Paths.get(contentPath);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(Paths.get(tempPath));
+        } else {
+            Files.createDirectories(target.getParent());
+            Files.move(Paths.get(tempPath), target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return contentPath;
+    }
+    
+    /**
+     * 저장된 파일 조회
      *
      * @param fullPath - 파일 경로
+     * @return 파일 리소스(파일이 없으면 null)
      */
-    public void deleteUploadedFile(String fullPath) {
-        File file = new File(fullPath);
-        if (file.exists()) file.delete();
+    public Resource loadFile(String fullPath) {
+        if (fullPath == null) return null;
+        Resource resource = new FileSystemResource(fullPath);
+        return resource.isReadable() ? resource : null;
     }
     
     /**
-     * 파일 저장용 이름 생성
+     * 크기별 변환 파일 경로
+     * 원본 파일 경로에서 확장자를 제외하고 "_크기.jpg"를 붙임
      *
-     * @param originalFilename - 원래 파일명
-     * @return - 저장된 파일명
+     * @param fullPath - 원본 파일 경로
+     * @param size     - 가로/세로 크기(px)
+     * @return 변환 파일 경로
      */
-    private String createStoreFilename(String originalFilename) {
-        return UUID.randomUUID().toString() + "." + extractExt(originalFilename);
+    public String getVariantPath(String fullPath, int size) {
+        int dot = fullPath.lastIndexOf('.');
+        int sep = Math.max(fullPath.lastIndexOf('/'), fullPath.lastIndexOf(File.separatorChar));
+        return (dot > sep ? fullPath.substring(0, dot) : fullPath) + "_" + size + ".jpg";
     }
     
     /**
-     * 파일 확장자 추출
+     * 저장된 파일 삭제
      *
-     * @param originalFilename - 원래 파일명
-     * @return - 확장자
+     * @param fullPath - 파일 경로
      */
-    private String extractExt(String originalFilename) {
-        return originalFilename.substring(originalFilename.lastIndexOf(".") + 1);
+    public void deleteUploadedFile(String fullPath) {
+        File file = new File(fullPath);
+        if (file.exists()) file.delete();
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        return sb.toString();
     }
     
 }
@@ -0,0 +1,156 @@
+package com.project.alfa.common.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+/**
+ * 이미지 검증 및 축소
+ * 1. 헤더만 읽어 형식과 크기를 확인하므로, 이미지가 아니거나 너무 큰 파일은 전체를 디코딩하기 전에 거부
+ * 2. 정사각형으로 가운데를 잘라낸 뒤 절반씩 단계적으로 축소하여 한 번에 축소할 때보다 계단 현상을 줄임
+ * 3. 투명 배경은 흰색으로 채우고 JPEG로 저장
+ */
+public final class ImageResizer {
+    
+    public static final int MAX_DIMENSION = 8000;   //허용하는 최대 가로/세로 크기(px)
+    
+    private static final float JPEG_QUALITY = 0.85f;
+    
+    private ImageResizer() {
+    }
+    
+    /**
+     * 이미지 크기 확인
+     * 전체 이미지를 디코딩하지 않고 헤더만 읽음
+     *
+     * @param in - 이미지 입력 스트림
+     * @return 이미지 크기(이미지가 아니거나 최대 크기를 초과하면 null)
+     * @throws IOException
+     */
+    public static Dimension readSize(final InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            ImageReader reader = firstReader(iis);
+            if (reader == null) return null;
+            try {
+                reader.setInput(iis, true, true);
+                int width  = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || width > MAX_DIMENSION || height > MAX_DIMENSION) return null;
+                return new Dimension(width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    /**
+     * 이미지 파일 디코딩
+     *
+     * @param path - 이미지 파일 경로
+     * @return 이미지(이미지가 아니거나 최대 크기를 초과하면 null)
+     * @throws IOException
+     */
+    public static BufferedImage read(final Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            if (readSize(in) == null) return null;
+        }
+        return ImageIO.read(path.toFile());
+    }
+    
+    /**
+     * 정사각형 썸네일 생성
+     *
+     * @param source - 원본 이미지
+     * @param size   - 가로/세로 크기(px)
+     * @return 썸네일
+     */
+    public static BufferedImage thumbnail(final BufferedImage source, final int size) {
+        //가운데 정사각형 영역
+        int           side    = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage current = draw(source,
+                                     (source.getWidth() - side) / 2,
+                                     (source.getHeight() - side) / 2,
+                                     side,
+                                     side,
+                                     side);
+        
+        //목표 크기의 2배 이하가 될 때까지 절반씩 축소
+        while (current.getWidth() / 2 >= size) {
+            int half = current.getWidth() / 2;
+            current = draw(current, 0, 0, current.getWidth(), current.getHeight(), half);
+        }
+        if (current.getWidth() != size) current = draw(current, 0, 0, current.getWidth(), current.getHeight(), size);
+        return current;
+    }
+    
+    /**
+     * JPEG 저장
+     * 임시 파일에 저장한 뒤 이동하므로, 저장 중인 파일이 조회되지 않음
+     *
+     * @param image - 이미지
+     * @param path  - 저장 경로
+     * @throws IOException
+     */
+    public static void writeJpeg(final BufferedImage image, final Path path) throws IOException {
+        Path        temp   = path.resolveSibling(path.getFileName() + ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            Files.deleteIfExists(temp);
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    private static ImageReader firstReader(final ImageInputStream iis) {
+        if (iis == null) return null;
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        return readers.hasNext() ? readers.next() : null;
+    }
+    
+    /**
+     * 원본의 (x, y, width, height) 영역을 size x size 크기의 RGB 이미지로 그림
+     */
+    private static BufferedImage draw(final BufferedImage source,
+                                      final int x,
+                                      final int y,
+                                      final int width,
+                                      final int height,
+                                      final int size) {
+        BufferedImage target   = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D    graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size, size);
+            graphics.drawImage(source, 0, 0, size, size, x, y, x + width, y + height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+    
+}
@@ -0,0 +1,56 @@
+package com.project.alfa.common.util;
+
+import com.project.alfa.common.error.exception.ErrorCode;
+import com.project.alfa.common.error.exception.InvalidValueException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (작성일, PK) 기준 키셋 페이징 커서
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64(URL-safe) 문자열로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+    
+    private static final String DELIMITER = "|";
+    
+    private final LocalDateTime createdDate;
+    private final Long          id;
+    
+    /**
+     * 커서 문자열 생성
+     *
+     * @param createdDate - 작성일
+     * @param id          - PK
+     * @return 커서 문자열
+     */
+    public static String encode(final LocalDateTime createdDate, final Long id) {
+        String raw = createdDate.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor - 커서 문자열
+     * @return 커서, 빈 문자열이나 null인 경우 null
+     */
+    public static KeysetCursor decode(final String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) return null;
+        try {
+            String raw   = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int    index = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, index)),
+                                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidValueException("Invalid cursor: " + cursor, ErrorCode.INVALID_CURSOR);
+        }
+    }
+    
+}
@@ -0,0 +1,30 @@
+package com.project.alfa.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+    
+    private TransactionUtils() {
+    }
+    
+    /**
+     * 트랜잭션 커밋 후 실행
+     * 진행 중인 트랜잭션이 없으면 즉시 실행하고, 트랜잭션이 롤백되면 실행하지 않음
+     *
+     * @param task - 실행할 작업
+     */
+    public static void runAfterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+    
+}
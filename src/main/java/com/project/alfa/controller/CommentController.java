@@ -7,7 +7,6 @@ import com.project.alfa.service.CommentService;
 import com.project.alfa.service.dto.CommentRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -15,8 +14,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @Slf4j
@@ -27,9 +24,11 @@ public class CommentController {
     
     private final CommentService commentService;
     
-    @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity commentsList(@RequestBody Map<String, Long> param, Pageable pageable) {
-        return new ResponseEntity<>(commentService.readComments(param.get("id"), pageable), HttpStatus.OK);
+    @GetMapping(value = "/scroll", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity scroll(@RequestParam Long postId,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false, defaultValue = "10") int size) {
+        return new ResponseEntity<>(commentService.findAllByCursor(postId, cursor, size), HttpStatus.OK);
     }
     
     @PostMapping(value = "/write", consumes = APPLICATION_JSON_VALUE)
@@ -0,0 +1,68 @@
+package com.project.alfa.controller;
+
+import com.project.alfa.common.error.exception.EntityNotFoundException;
+import com.project.alfa.common.util.FileSender;
+import com.project.alfa.service.StoredFileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Controller
+@RequestMapping("/files")
+@RequiredArgsConstructor
+public class FileController {
+    
+    private final StoredFileService storedFileService;
+    private final FileSender        fileSender;
+    
+    @GetMapping("/{contentHash}")
+    public void download(@PathVariable String contentHash,
+                         @RequestParam(required = false) String name,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String storeFilePath;
+        try {
+            storeFilePath = storedFileService.findStoreFilePath(contentHash);
+        } catch (EntityNotFoundException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        //파일명이 있으면 해당 이름으로 다운로드
+        MediaType contentType = MediaType.APPLICATION_OCTET_STREAM;
+        if (name != null && !name.isEmpty()) {
+            contentType = MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                               ContentDisposition.builder("attachment")
+                                                 .filename(name, StandardCharsets.UTF_8)
+                                                 .build()
+                                                 .toString());
+        }
+        
+        //내용 해시 경로의 파일은 내용이 바뀌지 않으므로 장기간 캐시
+        fileSender.send(request,
+                        response,
+                        Paths.get(storeFilePath),
+                        contentHash,
+                        contentType,
+                        CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate());
+    }
+    
+}
@@ -3,11 +3,16 @@ package com.project.alfa.controller;
 import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.ErrorCode;
 import com.project.alfa.common.error.exception.InvalidValueException;
+import com.project.alfa.service.DashboardService;
 import com.project.alfa.service.MemberService;
+import com.project.alfa.service.dto.DashboardResponseDto;
 import com.project.alfa.service.dto.MemberEmailAuthRequestDto;
 import com.project.alfa.service.dto.MemberJoinRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -15,21 +20,36 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class HomeController {
     
-    private final MemberService memberService;
+    private final MemberService    memberService;
+    private final DashboardService dashboardService;
     
     @GetMapping("/")
     public String index() {return "index";}
     
+    @ResponseBody
+    @GetMapping(value = "/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<DashboardResponseDto>> dashboard() {
+        //위젯을 병렬로 조회하는 동안 요청 스레드를 반환
+        //ETag가 요청의 If-None-Match와 같으면 HttpEntityMethodProcessor가 본문 없이 304로 응답
+        return dashboardService.getDashboard()
+                               .thenApply(dashboard -> ResponseEntity.ok()
+                                                                     .eTag(dashboard.getEtag())
+                                                                     .cacheControl(CacheControl.noCache())
+                                                                     .body(dashboard));
+    }
+    
     @GetMapping("/login")
     public String loginPage() {return "login";}
     
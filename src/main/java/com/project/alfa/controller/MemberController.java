@@ -4,15 +4,21 @@ import com.project.alfa.common.auth.CustomUserDetails;
 import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.ErrorCode;
 import com.project.alfa.common.error.exception.InvalidValueException;
+import com.project.alfa.common.util.FileSender;
 import com.project.alfa.service.MemberService;
+import com.project.alfa.service.ProfileImageVariantService;
 import com.project.alfa.service.dto.CommentResponseDto;
 import com.project.alfa.service.dto.MemberResponseDto;
 import com.project.alfa.service.dto.MemberUpdateRequestDto;
 import com.project.alfa.service.dto.PostListResponseDto;
+import com.project.alfa.service.dto.ProfileImageResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,7 +33,12 @@ import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.servlet.view.RedirectView;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Controller
@@ -35,8 +46,10 @@ import javax.validation.Valid;
 @RequiredArgsConstructor
 public class MemberController {
     
-    private final MemberService         memberService;
-    private final AuthenticationManager authenticationManager;
+    private final MemberService              memberService;
+    private final AuthenticationManager      authenticationManager;
+    private final FileSender                 fileSender;
+    private final ProfileImageVariantService profileImageVariantService;
     
     @GetMapping("/profile")
     public String profilePage(@AuthenticationPrincipal UserDetails userDetails, Model model) {
@@ -44,6 +57,39 @@ public class MemberController {
         return "members/profile";
     }
     
+    @GetMapping("/{id}/profile-image")
+    public void profileImage(@PathVariable Long id,
+                             @RequestParam(required = false, name = "v") String version,
+                             @RequestParam(required = false) Integer size,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        ProfileImageResponseDto image;
+        try {
+            image = memberService.findProfileImage(id);
+        } catch (EntityNotFoundException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        //요청한 크기 이상인 가장 작은 변환 파일(없으면 원본)
+        String path = profileImageVariantService.resolve(image.getStoreFilePath(), size);
+        
+        //현재 키(v)가 포함된 URL은 내용이 바뀌지 않으므로 장기간 캐시하고, 그 외에는 ETag로 재검증(일치하면 304 응답)
+        //변환 파일 대신 원본으로 응답한 경우, 변환이 끝난 뒤 다시 받을 수 있도록 장기간 캐시하지 않음
+        boolean      original     = path.equals(image.getStoreFilePath());
+        CacheControl cacheControl = image.getImageKey().equals(version) && (size == null || !original)
+                                    ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate()
+                                    : CacheControl.noCache().cachePrivate();
+        fileSender.send(request,
+                        response,
+                        Paths.get(path),
+                        original ? image.getImageKey() : image.getImageKey() + "-" + size,
+                        original ? MediaTypeFactory.getMediaType(image.getOriginalFileName())
+                                                   .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                                 : MediaType.IMAGE_JPEG,
+                        cacheControl);
+    }
+    
     @GetMapping("/profile-update")
     public String profileUpdatePage(@AuthenticationPrincipal UserDetails userDetails, Model model) {
         model.addAttribute("member", memberService.findByUsername(userDetails.getUsername()));
@@ -99,6 +145,10 @@ public class MemberController {
             }
             if (e.getErrorCode() == ErrorCode.NICKNAME_DUPLICATION)
                 bindingResult.addError(new FieldError("form", "nickname", "닉네임 중복"));
+            if (e.getErrorCode() == ErrorCode.INVALID_IMAGE)
+                bindingResult.addError(new FieldError("form", "profileImage", "이미지 파일만 등록할 수 있습니다."));
+            if (e.getErrorCode() == ErrorCode.FILE_SIZE_EXCEEDED)
+                bindingResult.addError(new FieldError("form", "profileImage", "파일 크기가 너무 큽니다."));
         }
         
         if (bindingResult.hasErrors()) {    //필드 에러 확인
@@ -115,7 +165,7 @@ public class MemberController {
                                                                              customUserDetails.getPassword(),
                                                                              customUserDetails.getEmailAuth(),
                                                                              memberDto.getNickname(),
-                                                                             memberDto.getImage64(),
+                                                                             memberDto.getImageKey(),
                                                                              customUserDetails.getRole());
                 UsernamePasswordAuthenticationToken updatedAuthentication = new UsernamePasswordAuthenticationToken(
                         updatedUserDetails,
@@ -7,7 +7,9 @@ import com.project.alfa.domain.Role;
 import com.project.alfa.service.CategoryService;
 import com.project.alfa.service.PostService;
 import com.project.alfa.service.dto.CategoryResponseDto;
+import com.project.alfa.service.dto.PostBulkDeleteRequestDto;
 import com.project.alfa.service.dto.PostReadResponseDto;
+import com.project.alfa.service.dto.PostSliceResponseDto;
 import com.project.alfa.service.dto.PostWriteRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +43,8 @@ public class PostController {
     public String postsList(@RequestParam(required = false, defaultValue = "ALL") String category,
                             @RequestParam(required = false) String condition,
                             @RequestParam(required = false) String keyword,
+                            @RequestParam(required = false) String cursor,
+                            @RequestParam(required = false) String direction,
                             Pageable pageable,
                             Model model,
                             RedirectAttributes redirectAttributes) {
@@ -50,7 +54,19 @@ public class PostController {
         try {
             model.addAttribute("notices", postService.findTopNNotice(category, 3));    //게시판 분류에 따른 최근 공지 글 3개 포함
             
-            if (keyword == null)    //검색하지 않은 경우
+            if (cursor != null || direction != null) {  //커서 기반 페이징
+                PostSliceResponseDto slice = postService.findAllByCursor(category,
+                                                                         condition,
+                                                                         keyword,
+                                                                         noticeYn,
+                                                                         cursor,
+                                                                         "prev".equals(direction),
+                                                                         pageable.getPageSize());
+                model.addAttribute("condition", condition);
+                model.addAttribute("keyword", keyword);
+                model.addAttribute("slice", slice);
+                model.addAttribute("posts", slice.getContent());
+            } else if (keyword == null)    //검색하지 않은 경우
                 model.addAttribute("posts", postService.findAll(category, noticeYn, pageable));
             else {                  //검색한 경우
                 model.addAttribute("condition", condition);
@@ -61,6 +77,9 @@ public class PostController {
         } catch (EntityNotFoundException e) {
             redirectAttributes.addFlashAttribute("message", "존재하지 않는 게시판입니다.");
             return "redirect:/posts";
+        } catch (InvalidValueException e) {
+            redirectAttributes.addFlashAttribute("message", "잘못된 페이지 요청입니다.");
+            return "redirect:/posts";
         }
         
         return "posts/list";
@@ -151,6 +170,7 @@ public class PostController {
     
     @GetMapping("/read")
     public String read(@RequestParam Long id, HttpServletRequest request,
+                       @AuthenticationPrincipal UserDetails userDetails,
                        //                       HttpServletResponse response,
                        Model model, RedirectAttributes redirectAttributes) {
         /* 1. 조회 수 중복 증가 방지: Cookie */
@@ -190,10 +210,11 @@ public class PostController {
         //            return "redirect:/posts";
         //        }
         
-        /* 2. 조회 수 중복 증가 방지: Redis cache */
+        /* 2. 조회 수 중복 증가 방지: Redis 조회자 기록(회원 비트맵, 비회원 IP HyperLogLog) */
+        Long memberId = userDetails instanceof CustomUserDetails ? ((CustomUserDetails) userDetails).getId() : null;
         try {
-            postService.updateViewCount(id, request.getSession().getId(), request.getRemoteAddr());
-            model.addAttribute("post", postService.readPost(id, request.getSession().getId(), request.getRemoteAddr()));
+            postService.updateViewCount(id, memberId, request.getRemoteAddr());
+            model.addAttribute("post", postService.readPost(id));
         } catch (EntityNotFoundException e) {
             redirectAttributes.addFlashAttribute("message", "존재하지 않는 게시글입니다.");
             return "redirect:/posts";
@@ -281,6 +302,42 @@ public class PostController {
         return "redirect:/posts";
     }
     
+    @ResponseBody
+    @PostMapping(value = "/admin/delete",
+                 consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity adminDelete(@RequestBody PostBulkDeleteRequestDto dto) {
+        try {
+            int deleted = dto.getIds() != null && !dto.getIds().isEmpty()
+                          ? postService.deleteAllByIds(dto.getIds())
+                          : postService.deleteAllByFilter(dto.getCategory() == null ? "ALL" : dto.getCategory(),
+                                                          dto.getPeriod());
+            return new ResponseEntity<>(deleted, HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>("존재하지 않는 카테고리입니다.", HttpStatus.NOT_FOUND);
+        } catch (InvalidValueException e) {
+            return new ResponseEntity<>("카테고리 또는 기간을 지정하세요.", HttpStatus.BAD_REQUEST);
+        }
+    }
+    
+    @ResponseBody
+    @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity scroll(@RequestParam(required = false, defaultValue = "ALL") String category,
+                                 @RequestParam(required = false) String condition,
+                                 @RequestParam(required = false) String keyword,
+                                 @RequestParam(required = false, name = "notice", defaultValue = "false") Boolean noticeYn,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false, defaultValue = "next") String direction,
+                                 @RequestParam(required = false, defaultValue = "10") int size) {
+        return new ResponseEntity<>(postService.findAllByCursor(category,
+                                                                condition,
+                                                                keyword,
+                                                                noticeYn,
+                                                                cursor,
+                                                                "prev".equals(direction),
+                                                                size), HttpStatus.OK);
+    }
+    
     @ResponseBody
     @PostMapping(value = "/top10Notice", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity top10Notice() {
@@ -289,14 +346,14 @@ public class PostController {
     
     @ResponseBody
     @PostMapping(value = "/top10ViewCount", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity top10ViewCount() {
-        return new ResponseEntity<>(postService.findTopNViewCountToday(10), HttpStatus.OK);
+    public ResponseEntity top10ViewCount(@RequestParam(required = false, defaultValue = "1d") String period) {
+        return new ResponseEntity<>(postService.findTopNViewCount(period, 10), HttpStatus.OK);
     }
     
     @ResponseBody
     @PostMapping(value = "/top10CommentCount", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity top10CommentCount() {
-        return new ResponseEntity<>(postService.findTopNCommentCountToday(10), HttpStatus.OK);
+    public ResponseEntity top10CommentCount(@RequestParam(required = false, defaultValue = "1d") String period) {
+        return new ResponseEntity<>(postService.findTopNCommentCount(period, 10), HttpStatus.OK);
     }
     
     @ResponseBody
@@ -305,4 +362,10 @@ public class PostController {
         return new ResponseEntity<>(postService.findTopNNewPosts(10), HttpStatus.OK);
     }
     
+    @ResponseBody
+    @PostMapping(value = "/top10Trending", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity top10Trending() {
+        return new ResponseEntity<>(postService.findTopNTrending(10), HttpStatus.OK);
+    }
+    
 }
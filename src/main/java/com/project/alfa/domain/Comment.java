@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 
 import javax.persistence.*;
 
@@ -11,7 +12,9 @@ import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
-@Table(name = "tb_comments")
+@Table(name = "tb_comments", indexes = {
+        @Index(name = "idx_comments_post_created", columnList = "post_id, createdDate, comment_id")
+})
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @EqualsAndHashCode(callSuper = false)
@@ -41,15 +44,17 @@ public class Comment extends BaseTimeEntity {
     }
     
     //==================== 연관관계 메서드 ====================//
+    //반대편 컬렉션은 이미 로딩된 경우에만 반영(로딩되지 않은 컬렉션은 다음에 로딩될 때 DB 기준으로 조회됨)
     
     public void setWriter(Member writer) {
         this.writer = writer;
-        writer.getComments().add(this);
+        if (Hibernate.isInitialized(writer) && Hibernate.isInitialized(writer.getComments()))
+            writer.getComments().add(this);
     }
     
     public void setPost(Post post) {
         this.post = post;
-        post.getComments().add(this);
+        if (Hibernate.isInitialized(post) && Hibernate.isInitialized(post.getComments())) post.getComments().add(this);
     }
     
     //==================== 댓글 내용 수정 메서드 ====================//
@@ -1,5 +1,6 @@
 package com.project.alfa.domain;
 
+import com.project.alfa.common.search.PostSearchIndexListener;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,6 +17,7 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Table(name = "tb_members")
+@EntityListeners(PostSearchIndexListener.class)
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @EqualsAndHashCode(exclude = { "posts", "comments" }, callSuper = false)
@@ -54,6 +56,8 @@ public class Member extends BaseTimeEntity {
     private String provider;                            //OAuth 2.0 Provider
     private String providerId;                          //OAuth 2.0 ProviderId
     
+    private Boolean disabled;                           //탈퇴 처리 여부(작성한 게시글/댓글 삭제 대기)
+    
     @OneToMany(mappedBy = "writer", orphanRemoval = true)
     private List<Post> posts = new ArrayList<>();       //작성한 게시글 리스트
     
@@ -68,6 +72,7 @@ public class Member extends BaseTimeEntity {
         this.nickname = nickname;
         this.profileImage = profileImage;
         this.role = Role.USER;
+        this.disabled = false;
     }
     
     //==================== 계정 정보 수정 메서드 ====================//
@@ -128,6 +133,14 @@ public class Member extends BaseTimeEntity {
         profileImage = newProfileImage;
     }
     
+    /**
+     * 탈퇴 처리
+     * 작성한 게시글/댓글은 백그라운드 작업에서 삭제한 뒤 계정 삭제
+     */
+    public void disable() {
+        disabled = true;
+    }
+    
     /**
      * 계정 유형 변경
      */
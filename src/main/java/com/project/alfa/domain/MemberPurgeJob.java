@@ -0,0 +1,62 @@
+package com.project.alfa.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static javax.persistence.EnumType.STRING;
+import static lombok.AccessLevel.PROTECTED;
+
+@Entity
+@Table(name = "tb_member_purge_jobs", indexes = @Index(name = "idx_member_purge_jobs_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class MemberPurgeJob extends BaseTimeEntity {
+    
+    @Id
+    @GeneratedValue
+    @Column(name = "member_purge_job_id")
+    private Long id;                 //PK
+    
+    @Column(nullable = false, unique = true)
+    private Long memberId;           //탈퇴 회원 PK
+    
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private PurgeStatus status;      //진행 상태
+    
+    private long purgedPosts;        //삭제한 게시글 수
+    private long purgedComments;     //삭제한 댓글 수
+    
+    private LocalDateTime heartbeat; //마지막 진행 일시(진행 중인 서버의 생존 확인)
+    
+    public MemberPurgeJob(Long memberId) {
+        this.memberId = memberId;
+        this.status = PurgeStatus.PENDING;
+    }
+    
+    //==================== 진행 상태 변경 메서드 ====================//
+    
+    /**
+     * 진행 상황 기록
+     *
+     * @param posts    - 이번에 삭제한 게시글 수
+     * @param comments - 이번에 삭제한 댓글 수
+     */
+    public void progress(int posts, int comments) {
+        purgedPosts += posts;
+        purgedComments += comments;
+        heartbeat = LocalDateTime.now();
+    }
+    
+    /**
+     * 완료 처리
+     */
+    public void complete() {
+        status = PurgeStatus.COMPLETED;
+        heartbeat = LocalDateTime.now();
+    }
+    
+}
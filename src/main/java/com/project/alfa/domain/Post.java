@@ -1,9 +1,11 @@
 package com.project.alfa.domain;
 
+import com.project.alfa.common.search.PostSearchIndexListener;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 
 import javax.persistence.*;
 import javax.validation.constraints.Size;
@@ -14,7 +16,11 @@ import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
-@Table(name = "tb_posts")
+@Table(name = "tb_posts", indexes = {
+        @Index(name = "idx_posts_notice_created", columnList = "noticeYn, createdDate, post_id"),
+        @Index(name = "idx_posts_category_notice_created", columnList = "category_id, noticeYn, createdDate, post_id")
+})
+@EntityListeners(PostSearchIndexListener.class)
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @EqualsAndHashCode(exclude = { "comments" }, callSuper = false)
@@ -46,6 +52,9 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false)
     private Boolean noticeYn;                           //공지 여부
     
+    @Column(nullable = false)
+    private int commentCount;                           //댓글 수(반정규화, DB에서 원자적으로 증감)
+    
     @OneToMany(mappedBy = "post", orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>(); //게시글 내 댓글 리스트
     
@@ -57,19 +66,24 @@ public class Post extends BaseTimeEntity {
         setCategory(category);
         this.viewCount = 0;
         this.noticeYn = noticeYn;
+        this.commentCount = 0;
     }
     
     //==================== 연관관계 메서드 ====================//
+    //반대편 컬렉션은 이미 로딩된 경우에만 반영(로딩되지 않은 컬렉션은 다음에 로딩될 때 DB 기준으로 조회됨)
     
     public void setWriter(Member writer) {
         this.writer = writer;
-        writer.getPosts().add(this);
+        if (Hibernate.isInitialized(writer) && Hibernate.isInitialized(writer.getPosts())) writer.getPosts().add(this);
     }
     
     public void setCategory(Category category) {
-        if (this.category != null && this.category.getPosts().contains(this)) this.category.getPosts().remove(this);
+        if (this.category != null && Hibernate.isInitialized(this.category)
+            && Hibernate.isInitialized(this.category.getPosts()))
+            this.category.getPosts().remove(this);
         this.category = category;
-        category.getPosts().add(this);
+        if (Hibernate.isInitialized(category) && Hibernate.isInitialized(category.getPosts()))
+            category.getPosts().add(this);
     }
     
     //==================== 게시글 수정 메서드 ====================//
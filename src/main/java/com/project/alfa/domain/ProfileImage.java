@@ -19,23 +19,27 @@ public class ProfileImage extends UploadFile {
     @Id
     @GeneratedValue
     @Column(name = "profile_image_id")
-    private Long id;           //PK
-    
-    @Lob
-    private String base64Data; //Base64 인코딩 값
-    
-    protected ProfileImage(String originalFileName, String storeFileName, String storeFilePath, Long fileSize) {
-        super(originalFileName, storeFileName, storeFilePath, fileSize);
-    }
+    private Long id; //PK
     
     @Builder
     public ProfileImage(String originalFileName,
                         String storeFileName,
                         String storeFilePath,
                         Long fileSize,
-                        String base64Data) {
-        super(originalFileName, storeFileName, storeFilePath, fileSize);
-        this.base64Data = base64Data;
+                        String contentHash) {
+        super(originalFileName, storeFileName, storeFilePath, fileSize, contentHash);
+    }
+    
+    /**
+     * 프로필 사진 키
+     * 프로필 사진이 변경되면 함께 변경되므로 이미지 URL의 버전과 ETag로 사용
+     * 내용 해시가 없는 이전 파일은 저장 파일명(UUID) 사용
+     *
+     * @return 프로필 사진 키(프로필 사진이 없으면 null)
+     */
+    public String getImageKey() {
+        if (storeFilePath == null) return null;
+        return contentHash != null ? contentHash : storeFileName;
     }
     
     //==================== 프로필 사진 수정 메서드 ====================//
@@ -47,18 +51,18 @@ public class ProfileImage extends UploadFile {
      * @param newStoreFileName    - 변경할 파일 저장 파일명
      * @param newStoreFilePath    - 변경할 파일 저장 경로
      * @param newFileSize         - 변경할 파일 크기
-     * @param newBase64Data       - 변경할 Bas64 인코딩 값
+     * @param newContentHash      - 변경할 파일 내용 해시
      */
     public void updateImage(String newOriginalFileName,
                             String newStoreFileName,
                             String newStoreFilePath,
                             Long newFileSize,
-                            String newBase64Data) {
+                            String newContentHash) {
         originalFileName = newOriginalFileName;
         storeFileName = newStoreFileName;
         storeFilePath = newStoreFilePath;
         fileSize = newFileSize;
-        base64Data = newBase64Data;
+        contentHash = newContentHash;
     }
     
     /**
@@ -69,7 +73,7 @@ public class ProfileImage extends UploadFile {
         storeFileName = null;
         storeFilePath = null;
         fileSize = null;
-        base64Data = null;
+        contentHash = null;
     }
     
 }
@@ -0,0 +1,9 @@
+package com.project.alfa.domain;
+
+public enum PurgeStatus {
+    
+    PENDING,    //대기
+    RUNNING,    //진행 중
+    COMPLETED   //완료
+    
+}
@@ -0,0 +1,65 @@
+package com.project.alfa.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+@Entity
+@Table(name = "tb_stored_files", indexes = @Index(name = "idx_stored_files_ref_count", columnList = "refCount"))
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class StoredFile extends BaseTimeEntity {
+    
+    @Id
+    @GeneratedValue
+    @Column(name = "stored_file_id")
+    private Long id;                  //PK
+    
+    @Column(nullable = false, unique = true, length = 64)
+    private String contentHash;       //내용 해시(SHA-256, 16진수)
+    
+    @Column(nullable = false)
+    private String storeFilePath;     //저장 경로
+    
+    private Long fileSize;            //파일 크기
+    
+    private int refCount;             //참조 수
+    
+    @Column(nullable = false)
+    private LocalDateTime stagedDate; //마지막 업로드 일시(참조 전에 삭제되지 않도록 보호)
+    
+    public StoredFile(String contentHash, String storeFilePath, Long fileSize) {
+        this.contentHash = contentHash;
+        this.storeFilePath = storeFilePath;
+        this.fileSize = fileSize;
+        this.stagedDate = LocalDateTime.now();
+    }
+    
+    //==================== 참조 변경 메서드 ====================//
+    
+    /**
+     * 같은 내용의 파일 업로드
+     */
+    public void stage() {
+        stagedDate = LocalDateTime.now();
+    }
+    
+    /**
+     * 참조 추가
+     */
+    public void retain() {
+        refCount++;
+    }
+    
+    /**
+     * 참조 해제
+     */
+    public void release() {
+        if (refCount > 0) refCount--;
+    }
+    
+}
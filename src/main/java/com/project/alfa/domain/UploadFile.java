@@ -18,5 +18,6 @@ public abstract class UploadFile extends BaseTimeEntity {
     String storeFileName;    //저장 파일명
     String storeFilePath;    //저장 경로
     Long   fileSize;         //파일 크기
+    String contentHash;      //내용 해시(SHA-256, 16진수)
     
 }
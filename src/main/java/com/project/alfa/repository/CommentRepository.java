@@ -6,9 +6,22 @@ import com.project.alfa.repository.querydsl.CommentRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
     
     Page<Comment> findAllByPostOrderByCreatedDateDesc(Post post, Pageable pageable);
     
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Comment c where c.post.id in :postIds")
+    int bulkDeleteByPostIds(@Param("postIds") Collection<Long> postIds);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.id in :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
+    
 }
@@ -0,0 +1,26 @@
+package com.project.alfa.repository;
+
+import com.project.alfa.domain.MemberPurgeJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MemberPurgeJobRepository extends JpaRepository<MemberPurgeJob, Long> {
+    
+    @Query("select j.id from MemberPurgeJob j " +
+           "where j.status = com.project.alfa.domain.PurgeStatus.PENDING " +
+           "or (j.status = com.project.alfa.domain.PurgeStatus.RUNNING and j.heartbeat < :staleBefore) " +
+           "order by j.id")
+    List<Long> findResumableIds(@Param("staleBefore") LocalDateTime staleBefore);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("update MemberPurgeJob j set j.status = com.project.alfa.domain.PurgeStatus.RUNNING, j.heartbeat = :now " +
+           "where j.id = :id and (j.status = com.project.alfa.domain.PurgeStatus.PENDING " +
+           "or (j.status = com.project.alfa.domain.PurgeStatus.RUNNING and j.heartbeat < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+    
+}
@@ -21,4 +21,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     
     boolean existsByNickname(String nickname);
     
+    @Query("select m.disabled from Member m where m.id = :id")
+    Optional<Boolean> findDisabledById(@Param("id") Long id);
+    
 }
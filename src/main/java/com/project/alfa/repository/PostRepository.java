@@ -1,20 +1,41 @@
 package com.project.alfa.repository;
 
-import com.project.alfa.domain.Category;
 import com.project.alfa.domain.Post;
 import com.project.alfa.repository.querydsl.PostRepositoryCustom;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
     
-    Page<Post> findAllByNoticeYnOrderByCreatedDateDesc(Boolean noticeYn, Pageable pageable);
+    boolean existsById(Long id);
+    
+    @Query("select p.id from Post p")
+    List<Long> findAllIds();
     
-    Page<Post> findAllByCategoryAndNoticeYnOrderByCreatedDateDesc(Category category,
-                                                                  Boolean noticeYn,
-                                                                  Pageable pageable);
+    @Query("select c.name from Post p join p.category c where p.id = :id")
+    Optional<String> findCategoryNameById(@Param("id") Long id);
     
-    boolean existsById(Long id);
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    int updateCommentCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    @Query("select p from Post p join fetch p.category " +
+           "where p.commentCount <> (select count(c) from Comment c where c.post = p)")
+    List<Post> findAllByCommentCountDrift();
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p) " +
+           "where p.id in :ids and p.commentCount <> (select count(c) from Comment c where c.post = p)")
+    int reconcileCommentCounts(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Post p where p.id in :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
     
 }
@@ -0,0 +1,25 @@
+package com.project.alfa.repository;
+
+import com.project.alfa.domain.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+    
+    Optional<StoredFile> findByContentHash(String contentHash);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from StoredFile f where f.contentHash = :contentHash")
+    Optional<StoredFile> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+    
+    @Query("select f.contentHash from StoredFile f where f.refCount = 0 and f.stagedDate < :stagedBefore order by f.id")
+    List<String> findUnreferencedHashes(@Param("stagedBefore") LocalDateTime stagedBefore);
+    
+}
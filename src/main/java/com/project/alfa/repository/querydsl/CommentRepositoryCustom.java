@@ -5,6 +5,7 @@ import com.project.alfa.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepositoryCustom {
@@ -17,4 +18,8 @@ public interface CommentRepositoryCustom {
     
     Page<Comment> findByPeriod(Member writer, String period, Pageable pageable);
     
+    List<Comment> findListByCursor(Long postId, LocalDateTime createdDate, Long id, int limit);
+    
+    List<Comment> findForDeletionByWriter(Long writerId, int limit);
+    
 }
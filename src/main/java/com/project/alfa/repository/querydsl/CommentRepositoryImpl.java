@@ -2,19 +2,20 @@ package com.project.alfa.repository.querydsl;
 
 import com.project.alfa.domain.Comment;
 import com.project.alfa.domain.Member;
+import com.project.alfa.domain.QCategory;
 import com.project.alfa.domain.QComment;
-import com.querydsl.core.QueryResults;
+import com.project.alfa.domain.QPost;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.springframework.util.StringUtils.hasText;
@@ -85,15 +86,16 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
      */
     @Override
     public Page<Comment> findByPeriod(String period, Pageable pageable) {
-        QueryResults<Comment> results = queryFactory.selectFrom(QComment.comment)
-                                                    .where(periodEq(period))
-                                                    .orderBy(QComment.comment.createdDate.desc())
-                                                    .offset(pageable.getOffset())
-                                                    .limit(pageable.getPageSize())
-                                                    .fetchResults();
-        List<Comment> content = results.getResults();
-        long          total   = results.getTotal();
-        return new PageImpl<>(content, pageable, total);
+        List<Comment> content = queryFactory.selectFrom(QComment.comment)
+                                            .where(periodEq(period))
+                                            .orderBy(QComment.comment.createdDate.desc())
+                                            .offset(pageable.getOffset())
+                                            .limit(pageable.getPageSize())
+                                            .fetch();
+        JPAQuery<Long> count = queryFactory.select(QComment.comment.count())
+                                           .from(QComment.comment)
+                                           .where(periodEq(period));
+        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
     }
     
     /**
@@ -124,6 +126,65 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
     }
     
+    /**
+     * 게시글 내 댓글 목록 커서 기반 조회
+     * (작성일, PK) 키셋 페이징으로 최신 댓글부터 조회하며, 작성자와 게시글은 함께 조회(fetch join)
+     *
+     * @param postId      - 게시글 PK
+     * @param createdDate - 커서 작성일(null인 경우 첫 페이지)
+     * @param id          - 커서 PK
+     * @param limit       - 조회할 갯수
+     * @return 조회된 댓글 목록
+     */
+    @Override
+    public List<Comment> findListByCursor(Long postId, LocalDateTime createdDate, Long id, int limit) {
+        QComment comment = QComment.comment;
+        
+        return queryFactory.selectFrom(comment)
+                           .join(comment.writer).fetchJoin()
+                           .join(comment.post).fetchJoin()
+                           .where(comment.post.id.eq(postId), cursorEq(createdDate, id))
+                           .orderBy(comment.createdDate.desc(), comment.id.desc())
+                           .limit(limit)
+                           .fetch();
+    }
+    
+    /**
+     * 작성자에 따른 삭제 대상 목록 조회(회원 탈퇴)
+     * 삭제 후 댓글 수/목록 캐시 갱신에 필요한 게시글과 카테고리를 함께 조회하며, PK 오름차순으로 limit 개씩 조회
+     *
+     * @param writerId - 작성자 PK
+     * @param limit    - 조회할 갯수
+     * @return 조회된 댓글 목록
+     */
+    @Override
+    public List<Comment> findForDeletionByWriter(Long writerId, int limit) {
+        QComment  comment  = QComment.comment;
+        QPost     post     = QPost.post;
+        QCategory category = QCategory.category;
+        
+        return queryFactory.selectFrom(comment)
+                           .join(comment.post, post).fetchJoin()
+                           .join(post.category, category).fetchJoin()
+                           .where(comment.writer.id.eq(writerId))
+                           .orderBy(comment.id.asc())
+                           .limit(limit)
+                           .fetch();
+    }
+    
+    /**
+     * 키셋 페이징 커서 조건
+     *
+     * @param createdDate - 커서 작성일
+     * @param id          - 커서 PK
+     * @return
+     */
+    private BooleanExpression cursorEq(LocalDateTime createdDate, Long id) {
+        if (createdDate == null || id == null) return null;
+        return QComment.comment.createdDate.lt(createdDate)
+                                           .or(QComment.comment.createdDate.eq(createdDate).and(QComment.comment.id.lt(id)));
+    }
+    
     /**
      * 기간에 따른 조건
      * 입력된 문자열을 기준으로 오늘 날짜로부터 얼마 전까지의 기간 동안 작성된 것을 조회할 지 조건 반환
@@ -3,13 +3,19 @@ package com.project.alfa.repository.querydsl;
 import com.project.alfa.domain.Category;
 import com.project.alfa.domain.Member;
 import com.project.alfa.domain.Post;
+import com.project.alfa.service.dto.PostListResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
 
 public interface PostRepositoryCustom {
     
+    Optional<Post> findDetailById(Long id);
+    
     Page<Post> searchByKeyword(String condition, String keyword, Boolean noticeYn, Pageable pageable);
     
     Page<Post> searchByKeyword(Category category,
@@ -18,6 +24,66 @@ public interface PostRepositoryCustom {
                                Boolean noticeYn,
                                Pageable pageable);
     
+    Page<PostListResponseDto> findListByNoticeYn(Boolean noticeYn, Pageable pageable);
+    
+    Page<PostListResponseDto> findListByNoticeYn(Boolean noticeYn, Pageable pageable, LongSupplier total);
+    
+    Page<PostListResponseDto> findListByCategoryAndNoticeYn(Category category, Boolean noticeYn, Pageable pageable);
+    
+    Page<PostListResponseDto> findListByCategoryAndNoticeYn(Category category,
+                                                            Boolean noticeYn,
+                                                            Pageable pageable,
+                                                            LongSupplier total);
+    
+    Page<PostListResponseDto> searchListByKeyword(String condition, String keyword, Boolean noticeYn, Pageable pageable);
+    
+    Page<PostListResponseDto> searchListByKeyword(String condition,
+                                                  String keyword,
+                                                  Boolean noticeYn,
+                                                  Pageable pageable,
+                                                  LongSupplier total);
+    
+    Page<PostListResponseDto> searchListByKeyword(Category category,
+                                                  String condition,
+                                                  String keyword,
+                                                  Boolean noticeYn,
+                                                  Pageable pageable);
+    
+    Page<PostListResponseDto> searchListByKeyword(Category category,
+                                                  String condition,
+                                                  String keyword,
+                                                  Boolean noticeYn,
+                                                  Pageable pageable,
+                                                  LongSupplier total);
+    
+    long countByCategoryAndNoticeYn(Long categoryId, Boolean noticeYn);
+    
+    long countByKeyword(Long categoryId, String condition, String keyword, Boolean noticeYn);
+    
+    List<PostListResponseDto> findListByCursor(Category category,
+                                               String condition,
+                                               String keyword,
+                                               Boolean noticeYn,
+                                               LocalDateTime createdDate,
+                                               Long id,
+                                               boolean backward,
+                                               int limit);
+    
+    List<PostListResponseDto> findListByIds(List<Long> ids);
+    
+    List<PostListResponseDto> findListByCreatedDateBetween(LocalDateTime from,
+                                                           LocalDateTime to,
+                                                           Long afterId,
+                                                           int limit);
+    
+    List<Post> findForIndexing(Long afterId, LocalDateTime modifiedSince, int limit);
+    
+    List<Post> findForDeletion(List<Long> ids);
+    
+    List<Post> findForDeletion(Category category, String period, int limit);
+    
+    List<Post> findForDeletionByWriter(Long writerId, int limit);
+    
     List<Post> findTopNByPeriod(int total, String period);
     
     List<Post> findTopNByPeriod(Member writer, int total, String period);
@@ -3,20 +3,25 @@ package com.project.alfa.repository.querydsl;
 import com.project.alfa.domain.Category;
 import com.project.alfa.domain.Member;
 import com.project.alfa.domain.Post;
+import com.project.alfa.domain.QCategory;
+import com.project.alfa.domain.QMember;
 import com.project.alfa.domain.QPost;
-import com.querydsl.core.QueryResults;
+import com.project.alfa.service.dto.PostListResponseDto;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.LongSupplier;
 
 import static org.springframework.util.StringUtils.hasText;
 
@@ -26,6 +31,22 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     
     private final JPAQueryFactory queryFactory;
     
+    /**
+     * 게시글 상세 조회
+     * 작성자와 카테고리를 함께 조회(fetch join)하여 한 번의 쿼리로 조회
+     *
+     * @param id - 게시글 PK
+     * @return 게시글
+     */
+    @Override
+    public Optional<Post> findDetailById(Long id) {
+        return Optional.ofNullable(queryFactory.selectFrom(QPost.post)
+                                               .join(QPost.post.writer).fetchJoin()
+                                               .join(QPost.post.category).fetchJoin()
+                                               .where(QPost.post.id.eq(id))
+                                               .fetchOne());
+    }
+    
     /**
      * 키워드가 검색된 목록 조회
      *
@@ -81,6 +102,341 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
     }
     
+    /**
+     * 공지글 여부에 따른 목록 조회(DTO 프로젝션)
+     *
+     * @param noticeYn - 공지글 여부
+     * @param pageable - 페이징 객체
+     * @return 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> findListByNoticeYn(Boolean noticeYn, Pageable pageable) {
+        return findList(pageable, null, QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 공지글 여부에 따른 목록 조회(DTO 프로젝션, 전체 갯수 외부 제공)
+     *
+     * @param noticeYn - 공지글 여부
+     * @param pageable - 페이징 객체
+     * @param total    - 전체 갯수 제공자(count 쿼리 대신 사용)
+     * @return 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> findListByNoticeYn(Boolean noticeYn, Pageable pageable, LongSupplier total) {
+        return findList(pageable, total, QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 카테고리, 공지글 여부에 따른 목록 조회(DTO 프로젝션)
+     *
+     * @param category - 카테고리
+     * @param noticeYn - 공지글 여부
+     * @param pageable - 페이징 객체
+     * @return 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> findListByCategoryAndNoticeYn(Category category,
+                                                                   Boolean noticeYn,
+                                                                   Pageable pageable) {
+        return findList(pageable, null, QPost.post.category.eq(category), QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 카테고리, 공지글 여부에 따른 목록 조회(DTO 프로젝션, 전체 갯수 외부 제공)
+     *
+     * @param category - 카테고리
+     * @param noticeYn - 공지글 여부
+     * @param pageable - 페이징 객체
+     * @param total    - 전체 갯수 제공자(count 쿼리 대신 사용)
+     * @return 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> findListByCategoryAndNoticeYn(Category category,
+                                                                   Boolean noticeYn,
+                                                                   Pageable pageable,
+                                                                   LongSupplier total) {
+        return findList(pageable, total, QPost.post.category.eq(category), QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 키워드가 검색된 목록 조회(DTO 프로젝션)
+     *
+     * @param condition - 검색 조건
+     * @param keyword   - 키워드
+     * @param noticeYn  - 공지글 여부
+     * @param pageable  - 페이징 객체
+     * @return 검색된 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> searchListByKeyword(String condition,
+                                                         String keyword,
+                                                         Boolean noticeYn,
+                                                         Pageable pageable) {
+        return findList(pageable, null, searchEq(condition, keyword), QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 키워드가 검색된 목록 조회(DTO 프로젝션, 전체 갯수 외부 제공)
+     *
+     * @param condition - 검색 조건
+     * @param keyword   - 키워드
+     * @param noticeYn  - 공지글 여부
+     * @param pageable  - 페이징 객체
+     * @param total     - 전체 갯수 제공자(count 쿼리 대신 사용)
+     * @return 검색된 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> searchListByKeyword(String condition,
+                                                         String keyword,
+                                                         Boolean noticeYn,
+                                                         Pageable pageable,
+                                                         LongSupplier total) {
+        return findList(pageable, total, searchEq(condition, keyword), QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 키워드가 검색된 목록 조회(DTO 프로젝션)
+     *
+     * @param category  - 카테고리
+     * @param condition - 검색 조건
+     * @param keyword   - 키워드
+     * @param noticeYn  - 공지글 여부
+     * @param pageable  - 페이징 객체
+     * @return 검색된 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> searchListByKeyword(Category category,
+                                                         String condition,
+                                                         String keyword,
+                                                         Boolean noticeYn,
+                                                         Pageable pageable) {
+        return findList(pageable,
+                        null,
+                        QPost.post.category.eq(category),
+                        searchEq(condition, keyword),
+                        QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 키워드가 검색된 목록 조회(DTO 프로젝션, 전체 갯수 외부 제공)
+     *
+     * @param category  - 카테고리
+     * @param condition - 검색 조건
+     * @param keyword   - 키워드
+     * @param noticeYn  - 공지글 여부
+     * @param pageable  - 페이징 객체
+     * @param total     - 전체 갯수 제공자(count 쿼리 대신 사용)
+     * @return 검색된 게시글 목록
+     */
+    @Override
+    public Page<PostListResponseDto> searchListByKeyword(Category category,
+                                                         String condition,
+                                                         String keyword,
+                                                         Boolean noticeYn,
+                                                         Pageable pageable,
+                                                         LongSupplier total) {
+        return findList(pageable,
+                        total,
+                        QPost.post.category.eq(category),
+                        searchEq(condition, keyword),
+                        QPost.post.noticeYn.eq(noticeYn));
+    }
+    
+    /**
+     * 카테고리, 공지글 여부에 따른 전체 갯수 조회
+     *
+     * @param categoryId - 카테고리 PK(null인 경우 전체 카테고리)
+     * @param noticeYn   - 공지글 여부
+     * @return 전체 갯수
+     */
+    @Override
+    public long countByCategoryAndNoticeYn(Long categoryId, Boolean noticeYn) {
+        Long count = queryFactory.select(QPost.post.count())
+                                 .from(QPost.post)
+                                 .where(categoryId == null ? null : QPost.post.category.id.eq(categoryId),
+                                        QPost.post.noticeYn.eq(noticeYn))
+                                 .fetchOne();
+        return count == null ? 0L : count;
+    }
+    
+    /**
+     * 키워드가 검색된 전체 갯수 조회
+     *
+     * @param categoryId - 카테고리 PK(null인 경우 전체 카테고리)
+     * @param condition  - 검색 조건
+     * @param keyword    - 키워드
+     * @param noticeYn   - 공지글 여부
+     * @return 전체 갯수
+     */
+    @Override
+    public long countByKeyword(Long categoryId, String condition, String keyword, Boolean noticeYn) {
+        Long count = queryFactory.select(QPost.post.count())
+                                 .from(QPost.post)
+                                 .where(categoryId == null ? null : QPost.post.category.id.eq(categoryId),
+                                        searchEq(condition, keyword),
+                                        QPost.post.noticeYn.eq(noticeYn))
+                                 .fetchOne();
+        return count == null ? 0L : count;
+    }
+    
+    /**
+     * (작성일, PK) 커서 기준 키셋 페이징 목록 조회(DTO 프로젝션)
+     * offset을 사용하지 않으므로 페이지 깊이와 관계없이 인덱스 범위 탐색으로 조회
+     *
+     * @param category    - 카테고리(null인 경우 전체)
+     * @param condition   - 검색 조건
+     * @param keyword     - 키워드(null인 경우 검색하지 않음)
+     * @param noticeYn    - 공지글 여부
+     * @param createdDate - 커서 작성일(null인 경우 첫 페이지)
+     * @param id          - 커서 PK
+     * @param backward    - true: 커서보다 최신 게시글(이전 페이지), false: 커서보다 과거 게시글(다음 페이지)
+     * @param limit       - 조회할 갯수
+     * @return 게시글 목록, backward인 경우 작성일 오름차순
+     */
+    @Override
+    public List<PostListResponseDto> findListByCursor(Category category,
+                                                      String condition,
+                                                      String keyword,
+                                                      Boolean noticeYn,
+                                                      LocalDateTime createdDate,
+                                                      Long id,
+                                                      boolean backward,
+                                                      int limit) {
+        QPost post = QPost.post;
+        
+        return selectList().where(category == null ? null : post.category.eq(category),
+                                  hasText(keyword) ? searchEq(condition, keyword) : null,
+                                  post.noticeYn.eq(noticeYn),
+                                  cursorEq(createdDate, id, backward))
+                           .orderBy(backward ? post.createdDate.asc() : post.createdDate.desc(),
+                                    backward ? post.id.asc() : post.id.desc())
+                           .limit(limit)
+                           .fetch();
+    }
+    
+    /**
+     * PK 목록에 해당하는 목록 조회(DTO 프로젝션)
+     * 검색 색인에서 조회한 한 페이지 분량의 PK만 조회하며, 결과는 PK 목록의 순서를 유지
+     *
+     * @param ids - 게시글 PK 목록
+     * @return 게시글 목록
+     */
+    @Override
+    public List<PostListResponseDto> findListByIds(List<Long> ids) {
+        if (ids.isEmpty()) return Collections.emptyList();
+        
+        List<PostListResponseDto> content = selectList().where(QPost.post.id.in(ids)).fetch();
+        
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++)
+            order.put(ids.get(i), i);
+        content.sort(Comparator.comparing(dto -> order.get(dto.getId())));
+        return content;
+    }
+    
+    /**
+     * 작성일시 구간 내 작성된 목록 조회(DTO 프로젝션)
+     * PK 오름차순으로 afterId 이후의 게시글을 limit 개씩 조회
+     *
+     * @param from    - 작성일시 시작(포함)
+     * @param to      - 작성일시 끝(미포함)
+     * @param afterId - 이전에 조회한 마지막 PK(null인 경우 처음부터)
+     * @param limit   - 조회할 갯수
+     * @return 게시글 목록
+     */
+    @Override
+    public List<PostListResponseDto> findListByCreatedDateBetween(LocalDateTime from,
+                                                                  LocalDateTime to,
+                                                                  Long afterId,
+                                                                  int limit) {
+        return selectList().where(QPost.post.createdDate.goe(from),
+                                  QPost.post.createdDate.lt(to),
+                                  afterId == null ? null : QPost.post.id.gt(afterId))
+                           .orderBy(QPost.post.id.asc())
+                           .limit(limit)
+                           .fetch();
+    }
+    
+    /**
+     * 검색 색인용 목록 조회
+     * 작성자를 함께 조회하며, PK 오름차순으로 afterId 이후의 게시글을 limit 개씩 조회
+     *
+     * @param afterId       - 이전에 조회한 마지막 PK(null인 경우 처음부터)
+     * @param modifiedSince - 게시글 또는 작성자의 최종 수정일시 기준(null인 경우 전체)
+     * @param limit         - 조회할 갯수
+     * @return 게시글 목록
+     */
+    @Override
+    public List<Post> findForIndexing(Long afterId, LocalDateTime modifiedSince, int limit) {
+        BooleanExpression modified = modifiedSince == null
+                                     ? null
+                                     : QPost.post.lastModifiedDate.goe(modifiedSince)
+                                                                  .or(QMember.member.lastModifiedDate.goe(modifiedSince));
+        
+        return queryFactory.selectFrom(QPost.post)
+                           .join(QPost.post.writer, QMember.member).fetchJoin()
+                           .where(afterId == null ? null : QPost.post.id.gt(afterId), modified)
+                           .orderBy(QPost.post.id.asc())
+                           .limit(limit)
+                           .fetch();
+    }
+    
+    /**
+     * 삭제 대상 목록 조회
+     * 삭제 후 카운터/목록 캐시 갱신에 필요한 카테고리를 함께 조회
+     *
+     * @param ids - 게시글 PK 목록
+     * @return 게시글 목록
+     */
+    @Override
+    public List<Post> findForDeletion(List<Long> ids) {
+        if (ids.isEmpty()) return Collections.emptyList();
+        
+        return queryFactory.selectFrom(QPost.post)
+                           .join(QPost.post.category, QCategory.category).fetchJoin()
+                           .where(QPost.post.id.in(ids))
+                           .fetch();
+    }
+    
+    /**
+     * 카테고리, 기간에 따른 삭제 대상 목록 조회
+     * 삭제 후 카운터/목록 캐시 갱신에 필요한 카테고리를 함께 조회하며, PK 오름차순으로 limit 개씩 조회
+     *
+     * @param category - 카테고리(null인 경우 전체)
+     * @param period   - 기간: 숫자 + d(일), w(주), m(월), y(년)
+     *                 period의 문자열 형태가 올바르지 않거나, null 값인 경우 기간 미설정(전 기간)
+     * @param limit    - 조회할 갯수
+     * @return 게시글 목록
+     */
+    @Override
+    public List<Post> findForDeletion(Category category, String period, int limit) {
+        return queryFactory.selectFrom(QPost.post)
+                           .join(QPost.post.category, QCategory.category).fetchJoin()
+                           .where(category == null ? null : QPost.post.category.eq(category), periodEq(period))
+                           .orderBy(QPost.post.id.asc())
+                           .limit(limit)
+                           .fetch();
+    }
+    
+    /**
+     * 작성자에 따른 삭제 대상 목록 조회(회원 탈퇴)
+     * 삭제 후 카운터/목록 캐시 갱신에 필요한 카테고리를 함께 조회하며, PK 오름차순으로 limit 개씩 조회
+     *
+     * @param writerId - 작성자 PK
+     * @param limit    - 조회할 갯수
+     * @return 게시글 목록
+     */
+    @Override
+    public List<Post> findForDeletionByWriter(Long writerId, int limit) {
+        return queryFactory.selectFrom(QPost.post)
+                           .join(QPost.post.category, QCategory.category).fetchJoin()
+                           .where(QPost.post.writer.id.eq(writerId))
+                           .orderBy(QPost.post.id.asc())
+                           .limit(limit)
+                           .fetch();
+    }
+    
     /**
      * 조회할 갯수, 기간에 따른 목록 조회
      *
@@ -264,7 +620,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     public List<Post> findTopNByPeriodAndCommentCount(int total, String period) {
         return queryFactory.selectFrom(QPost.post)
                            .where(periodEq(period))
-                           .orderBy(QPost.post.comments.size().desc())
+                           .orderBy(QPost.post.commentCount.desc())
                            .limit(total)
                            .fetch();
     }
@@ -284,15 +640,14 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
      */
     @Override
     public Page<Post> findByPeriod(String period, Pageable pageable) {
-        QueryResults<Post> results = queryFactory.selectFrom(QPost.post)
-                                                 .where(periodEq(period))
-                                                 .orderBy(QPost.post.createdDate.desc())
-                                                 .offset(pageable.getOffset())
-                                                 .limit(pageable.getPageSize())
-                                                 .fetchResults();
-        List<Post> content = results.getResults();
-        long       total   = results.getTotal();
-        return new PageImpl<>(content, pageable, total);
+        List<Post> content = queryFactory.selectFrom(QPost.post)
+                                         .where(periodEq(period))
+                                         .orderBy(QPost.post.createdDate.desc())
+                                         .offset(pageable.getOffset())
+                                         .limit(pageable.getPageSize())
+                                         .fetch();
+        JPAQuery<Long> count = queryFactory.select(QPost.post.count()).from(QPost.post).where(periodEq(period));
+        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
     }
     
     /**
@@ -457,6 +812,54 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
     }
     
+    /**
+     * 목록 화면에 필요한 컬럼만 작성자, 카테고리와 조인하여 한 번에 조회
+     * 엔티티(@Lob 내용 포함)를 로딩하지 않으며, count 쿼리는 조건에 필요한 경우에만 조인
+     * 전체 갯수 제공자가 있으면 count 쿼리를 수행하지 않음
+     *
+     * @param pageable - 페이징 객체
+     * @param total    - 전체 갯수 제공자(null인 경우 count 쿼리 수행)
+     * @param where    - 조건
+     * @return 게시글 목록
+     */
+    private Page<PostListResponseDto> findList(Pageable pageable, LongSupplier total, Predicate... where) {
+        List<PostListResponseDto> content = selectList().where(where)
+                                                        .orderBy(QPost.post.createdDate.desc(), QPost.post.id.desc())
+                                                        .offset(pageable.getOffset())
+                                                        .limit(pageable.getPageSize())
+                                                        .fetch();
+        if (total != null) return PageableExecutionUtils.getPage(content, pageable, total);
+        
+        JPAQuery<Long> count = queryFactory.select(QPost.post.count()).from(QPost.post).where(where);
+        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+    }
+    
+    /**
+     * 목록 조회용 DTO 프로젝션 쿼리
+     * 작성자, 카테고리를 조인하여 목록에 필요한 컬럼만 조회
+     *
+     * @return 프로젝션 쿼리
+     */
+    private JPAQuery<PostListResponseDto> selectList() {
+        QPost     post     = QPost.post;
+        QMember   writer   = QMember.member;
+        QCategory category = QCategory.category;
+        
+        return queryFactory.select(Projections.constructor(PostListResponseDto.class,
+                                                           post.id,
+                                                           writer.nickname,
+                                                           post.title,
+                                                           category.name,
+                                                           post.noticeYn,
+                                                           post.viewCount,
+                                                           post.commentCount,
+                                                           post.createdDate,
+                                                           post.lastModifiedDate))
+                           .from(post)
+                           .join(post.writer, writer)
+                           .join(post.category, category);
+    }
+    
     /**
      * 검색 조건, 키워드에 따른 조건
      * 1. 제목에 키워드 포함
@@ -483,6 +886,23 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                                .or(QPost.post.writer.nickname.like("%" + keyword + "%"));
     }
     
+    /**
+     * 키셋 페이징 커서 조건
+     *
+     * @param createdDate - 커서 작성일
+     * @param id          - 커서 PK
+     * @param backward    - 이전 페이지 여부
+     * @return
+     */
+    private BooleanExpression cursorEq(LocalDateTime createdDate, Long id, boolean backward) {
+        if (createdDate == null || id == null) return null;
+        if (backward)
+            return QPost.post.createdDate.gt(createdDate)
+                                         .or(QPost.post.createdDate.eq(createdDate).and(QPost.post.id.gt(id)));
+        return QPost.post.createdDate.lt(createdDate)
+                                     .or(QPost.post.createdDate.eq(createdDate).and(QPost.post.id.lt(id)));
+    }
+    
     /**
      * 기간에 따른 조건
      * 입력된 문자열을 기준으로 오늘 날짜로부터 얼마 전까지의 기간 동안 작성된 것을 조회할 지 조건 반환
@@ -3,21 +3,28 @@ package com.project.alfa.service;
 import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.ErrorCode;
 import com.project.alfa.common.error.exception.InvalidValueException;
+import com.project.alfa.common.util.KeysetCursor;
 import com.project.alfa.domain.Comment;
 import com.project.alfa.repository.CommentRepository;
 import com.project.alfa.repository.MemberRepository;
 import com.project.alfa.repository.PostRepository;
 import com.project.alfa.service.dto.CommentRequestDto;
 import com.project.alfa.service.dto.CommentResponseDto;
+import com.project.alfa.service.dto.CommentSliceResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 @Slf4j
@@ -26,42 +33,71 @@ import static java.util.stream.Collectors.toList;
 @RequiredArgsConstructor
 public class CommentService {
     
-    private final CommentRepository commentRepository;
-    private final MemberRepository  memberRepository;
-    private final PostRepository    postRepository;
+    private final CommentRepository         commentRepository;
+    private final MemberRepository          memberRepository;
+    private final PostRepository            postRepository;
+    private final CacheManager              cacheManager;
+    private final PostListGenerationService postListGenerationService;
+    private final PostRankingService        postRankingService;
+    private final PostTrendingService       postTrendingService;
     
     /**
      * 댓글 저장
+     * 작성자는 존재 여부와 탈퇴 처리 여부만, 게시글은 카테고리 이름만 조회하고 프록시로 참조하여 엔티티와 연관 목록을 로딩하지 않음
      *
      * @param dto - 댓글 정보
      * @return 댓글 PK
      */
     @Transactional
     public Long save(final CommentRequestDto dto) {
+        String categoryName = postRepository.findCategoryNameById(dto.getPId())
+                                            .orElseThrow(() -> new EntityNotFoundException(
+                                                    "Could not found 'Post' entity by id: " + dto.getPId()));
+        validateWriter(dto.getWId());
+        
         Comment comment = commentRepository.save(Comment.builder()
-                                                        .writer(memberRepository.findById(dto.getWId())
-                                                                                .orElseThrow(() -> new EntityNotFoundException(
-                                                                                        "Could not found 'Member' entity by id: " + dto.getWId())))
-                                                        .post(postRepository.findById(dto.getPId())
-                                                                            .orElseThrow(() -> new EntityNotFoundException(
-                                                                                    "Could not found 'Post' entity by id: " + dto.getPId())))
+                                                        .writer(memberRepository.getReferenceById(dto.getWId()))
+                                                        .post(postRepository.getReferenceById(dto.getPId()))
                                                         .content(dto.getContent())
                                                         .build());
+        postRepository.updateCommentCount(dto.getPId(), 1);
+        evictPostCache(dto.getPId());
+        postListGenerationService.bump(categoryName);
+        postRankingService.increaseCommentCount(dto.getPId(), 1);
+        postTrendingService.recordComment(dto.getPId());
         return comment.getId();
     }
     
     /**
-     * 게시글 내 댓글 목록 조회
+     * 게시글 내 댓글 목록 커서 기반 조회
+     * (작성일, PK) 키셋 페이징으로 댓글 수와 관계없이 일정한 비용으로 조회
      *
-     * @param postId   - 게시글 PK
-     * @param pageable - 페이징 객체
-     * @return 댓글 목록
+     * @param postId - 게시글 PK
+     * @param cursor - 커서(null인 경우 첫 페이지)
+     * @param size   - 페이지 크기
+     * @return 댓글 목록과 다음 페이지 커서
      */
-    public Page<CommentResponseDto> readComments(final Long postId, Pageable pageable) {
-        return commentRepository.findAllByPostOrderByCreatedDateDesc(postRepository.findById(postId)
-                                                                                   .orElseThrow(() -> new EntityNotFoundException(
-                                                                                           "Could not found 'Post' entity by id: " + postId)),
-                                                                     pageable).map(CommentResponseDto::new);
+    public CommentSliceResponseDto findAllByCursor(final Long postId, final String cursor, final int size) {
+        if (!postRepository.existsById(postId))
+            throw new EntityNotFoundException("Could not found 'Post' entity by id: " + postId);
+        
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        return findSlice(postId,
+                         keysetCursor == null ? null : keysetCursor.getCreatedDate(),
+                         keysetCursor == null ? null : keysetCursor.getId(),
+                         size);
+    }
+    
+    /**
+     * 게시글 상세에 포함되는 댓글 첫 페이지 조회
+     * 게시글 존재 여부는 호출하는 쪽에서 확인
+     *
+     * @param postId - 게시글 PK
+     * @param size   - 페이지 크기
+     * @return 댓글 목록과 다음 페이지 커서
+     */
+    public CommentSliceResponseDto findFirstPage(final Long postId, final int size) {
+        return findSlice(postId, null, null, size);
     }
     
     /**
@@ -75,11 +111,13 @@ public class CommentService {
                                            .orElseThrow(() -> new EntityNotFoundException(
                                                    "Could not found 'Comment' entity by id: " + dto.getId()));
         
+        validateWriter(dto.getWId());
         //작성자 확인
         if (!comment.getWriter().getId().equals(dto.getWId()))
             throw new InvalidValueException("Not writer of comment", ErrorCode.NOT_WRITER_OF_COMMENT);
         
         comment.updateContent(dto.getContent());
+        evictPostCache(comment.getPost().getId());
     }
     
     /**
@@ -100,6 +138,38 @@ public class CommentService {
             throw new InvalidValueException("Not writer of comment", ErrorCode.NOT_WRITER_OF_COMMENT);
         
         commentRepository.deleteById(id);
+        postRepository.updateCommentCount(comment.getPost().getId(), -1);
+        evictPostCache(comment.getPost().getId());
+        postListGenerationService.bump(comment.getPost().getCategory().getName());
+        postRankingService.increaseCommentCount(comment.getPost().getId(), -1);
+    }
+    
+    /**
+     * 작성자에 따른 댓글 일괄 삭제(회원 탈퇴)
+     * 작성자의 댓글을 PK 오름차순으로 limit 개까지 일괄 삭제 쿼리로 삭제하고, 게시글별로 댓글 수를 한 번씩 차감
+     *
+     * @param writerId - 작성자 PK
+     * @param limit    - 삭제할 최대 갯수
+     * @return 삭제된 댓글 수
+     */
+    @Transactional
+    public int deleteAllByWriter(final Long writerId, final int limit) {
+        List<Comment> comments = commentRepository.findForDeletionByWriter(writerId, limit);
+        if (comments.isEmpty()) return 0;
+        
+        Map<Long, Long> countByPost = comments.stream().collect(groupingBy(comment -> comment.getPost().getId(), counting()));
+        int             deleted     = commentRepository.bulkDeleteByIds(comments.stream().map(Comment::getId).collect(toList()));
+        
+        countByPost.forEach((postId, count) -> {
+            postRepository.updateCommentCount(postId, -count.intValue());
+            postRankingService.increaseCommentCount(postId, -count);
+            evictPostCache(postId);
+        });
+        postListGenerationService.bump(comments.stream()
+                                               .map(comment -> comment.getPost().getCategory().getName())
+                                               .distinct()
+                                               .toArray(String[]::new));
+        return deleted;
     }
     
     /**
@@ -112,4 +182,50 @@ public class CommentService {
         return commentRepository.findTopNByPeriod(total, null).stream().map(CommentResponseDto::new).collect(toList());
     }
     
+    /**
+     * 댓글 목록 조회
+     * 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+     */
+    private CommentSliceResponseDto findSlice(final Long postId,
+                                              final LocalDateTime createdDate,
+                                              final Long id,
+                                              final int size) {
+        int limit = Math.min(Math.max(size, 1), 100);
+        
+        List<CommentResponseDto> result = commentRepository.findListByCursor(postId, createdDate, id, limit + 1)
+                                                           .stream()
+                                                           .map(CommentResponseDto::new)
+                                                           .collect(toList());
+        boolean                  hasMore = result.size() > limit;
+        List<CommentResponseDto> content = new ArrayList<>(hasMore ? result.subList(0, limit) : result);
+        if (!hasMore) return new CommentSliceResponseDto(content, null);
+        
+        CommentResponseDto last = content.get(content.size() - 1);
+        return new CommentSliceResponseDto(content, KeysetCursor.encode(last.getCreatedDate(), last.getId()));
+    }
+    
+    /**
+     * 댓글이 포함된 게시글 상세 캐시 제거
+     *
+     * @param postId - 게시글 PK
+     */
+    private void evictPostCache(final Long postId) {
+        Cache postCache = cacheManager.getCache("postCache");
+        if (postCache != null) postCache.evict(postId);
+    }
+    
+    /**
+     * 작성자 확인
+     * 탈퇴 처리 중인 계정은 작성한 글이 삭제 대기 중이므로 새로 작성하거나 수정할 수 없음
+     *
+     * @param writerId - 작성자 PK
+     */
+    private void validateWriter(final Long writerId) {
+        Boolean disabled = memberRepository.findDisabledById(writerId)
+                                           .orElseThrow(() -> new EntityNotFoundException(
+                                                   "Could not found 'Member' entity by id: " + writerId));
+        if (Boolean.TRUE.equals(disabled))
+            throw new InvalidValueException("Disabled member", ErrorCode.MEMBER_DISABLED);
+    }
+    
 }
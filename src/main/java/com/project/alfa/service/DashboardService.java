@@ -0,0 +1,126 @@
+package com.project.alfa.service;
+
+import com.project.alfa.service.dto.CommentResponseDto;
+import com.project.alfa.service.dto.DashboardResponseDto;
+import com.project.alfa.service.dto.PostListResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.SerializationUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메인 화면 대시보드
+ * 위젯(공지, 조회수/댓글 수 상위, 신규 게시글/댓글) 목록을 제한된 스레드 풀에서 동시에 조회하여 하나의 응답으로 합치고,
+ * 합친 결과는 짧은 시간 동안 캐시
+ */
+@Slf4j
+@Service
+public class DashboardService {
+    
+    private static final String CACHE_NAME = "dashboard";
+    private static final String CACHE_KEY  = "home";
+    private static final int    TOTAL      = 10;    //위젯별 목록 갯수
+    private static final long   TIMEOUT    = 3;     //위젯별 조회 제한 시간(초)
+    
+    private final PostService    postService;
+    private final CommentService commentService;
+    private final CacheManager   cacheManager;
+    private final Executor       dashboardExecutor;
+    
+    public DashboardService(final PostService postService,
+                            final CommentService commentService,
+                            final CacheManager cacheManager,
+                            @Qualifier("dashboardExecutor") final Executor dashboardExecutor) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.cacheManager = cacheManager;
+        this.dashboardExecutor = dashboardExecutor;
+    }
+    
+    /**
+     * 대시보드 조회
+     * 캐시된 결과가 있으면 즉시 반환하고, 없으면 위젯별로 병렬 조회
+     * 일부 위젯 조회에 실패하면 해당 위젯은 빈 목록으로 응답하고 결과를 캐시하지 않음
+     *
+     * @return 대시보드 정보
+     */
+    public CompletableFuture<DashboardResponseDto> getDashboard() {
+        Cache              cache  = cacheManager.getCache(CACHE_NAME);
+        Cache.ValueWrapper cached = cache == null ? null : cache.get(CACHE_KEY);
+        if (cached != null && cached.get() != null)
+            return CompletableFuture.completedFuture((DashboardResponseDto) cached.get());
+        
+        CompletableFuture<List<PostListResponseDto>> notices         = load("notices",
+                                                                            () -> postService.findTopNNotice("ALL", TOTAL));
+        CompletableFuture<List<PostListResponseDto>> topViewCount    = load("topViewCount",
+                                                                            () -> postService.findTopNViewCountToday(TOTAL));
+        CompletableFuture<List<PostListResponseDto>> topCommentCount = load("topCommentCount",
+                                                                            () -> postService.findTopNCommentCountToday(TOTAL));
+        CompletableFuture<List<PostListResponseDto>> newPosts        = load("newPosts",
+                                                                            () -> postService.findTopNNewPosts(TOTAL));
+        CompletableFuture<List<CommentResponseDto>>  newComments     = load("newComments",
+                                                                            () -> commentService.findTopNNewComments(TOTAL));
+        
+        return CompletableFuture.allOf(notices, topViewCount, topCommentCount, newPosts, newComments).thenApply(v -> {
+            List<List<?>> widgets = Arrays.asList(notices.join(),
+                                                  topViewCount.join(),
+                                                  topCommentCount.join(),
+                                                  newPosts.join(),
+                                                  newComments.join());
+            boolean complete = !widgets.contains(null);
+            
+            DashboardResponseDto dashboard = new DashboardResponseDto(orEmpty(notices.join()),
+                                                                      orEmpty(topViewCount.join()),
+                                                                      orEmpty(topCommentCount.join()),
+                                                                      orEmpty(newPosts.join()),
+                                                                      orEmpty(newComments.join()),
+                                                                      etag(widgets));
+            if (complete && cache != null) cache.put(CACHE_KEY, dashboard);
+            return dashboard;
+        });
+    }
+    
+    /**
+     * 위젯 목록 비동기 조회
+     *
+     * @param name     - 위젯 이름(로그용)
+     * @param supplier - 목록 조회 함수
+     * @return 위젯 목록, 조회에 실패하거나 제한 시간을 넘기면 null
+     */
+    private <T> CompletableFuture<List<T>> load(final String name, final Supplier<List<T>> supplier) {
+        return CompletableFuture.supplyAsync(supplier, dashboardExecutor)
+                                .orTimeout(TIMEOUT, TimeUnit.SECONDS)
+                                .exceptionally(e -> {
+                                    log.warn("Failed to load dashboard widget: {}", name, e);
+                                    return null;
+                                });
+    }
+    
+    private static <T> List<T> orEmpty(final List<T> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+    
+    /**
+     * 응답 내용 해시(ETag)
+     *
+     * @param widgets - 위젯 목록
+     * @return 해시
+     */
+    private static String etag(final List<List<?>> widgets) {
+        byte[] bytes = SerializationUtils.serialize(new ArrayList<>(widgets));
+        return DigestUtils.md5DigestAsHex(bytes == null ? new byte[0] : bytes);
+    }
+    
+}
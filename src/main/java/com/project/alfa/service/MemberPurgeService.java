@@ -0,0 +1,173 @@
+package com.project.alfa.service;
+
+import com.project.alfa.domain.Member;
+import com.project.alfa.domain.MemberPurgeJob;
+import com.project.alfa.repository.MemberPurgeJobRepository;
+import com.project.alfa.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntSupplier;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+
+/**
+ * 탈퇴 회원 데이터 삭제
+ * 탈퇴 요청 시에는 계정을 비활성화하고 작업만 등록한 뒤, 작성한 게시글/댓글을 백그라운드에서 나누어 삭제
+ *
+ * 1. 게시글(게시글의 댓글 포함) -> 다른 게시글에 작성한 댓글 -> 계정 순서로 chunk-size 개씩 각각의 트랜잭션에서 삭제
+ * 2. 삭제한 갯수는 같은 트랜잭션에서 작업에 기록하므로, 중단되더라도 남은 데이터부터 이어서 삭제
+ * 3. 진행 중인 작업은 주기적으로 갱신되며, lease 동안 갱신되지 않은 작업(서버 재시작 등)은 다른 서버가 이어서 진행
+ */
+@Slf4j
+@Service
+public class MemberPurgeService {
+    
+    private final MemberPurgeJobRepository memberPurgeJobRepository;
+    private final MemberRepository         memberRepository;
+    private final PostService              postService;
+    private final CommentService           commentService;
+    private final StoredFileService        storedFileService;
+    private final TransactionTemplate      transactionTemplate;
+    private final Executor                 memberPurgeExecutor;
+    private final int                      chunkSize;   //한 트랜잭션에서 삭제할 게시글/댓글 수
+    private final long                     lease;       //진행 중인 작업을 중단된 것으로 판단하는 시간(초)
+    
+    public MemberPurgeService(final MemberPurgeJobRepository memberPurgeJobRepository,
+                              final MemberRepository memberRepository,
+                              final PostService postService,
+                              final CommentService commentService,
+                              final StoredFileService storedFileService,
+                              final PlatformTransactionManager transactionManager,
+                              @Qualifier("memberPurgeExecutor") final Executor memberPurgeExecutor,
+                              @Value("${member.purge.chunk-size:200}") final int chunkSize,
+                              @Value("${member.purge.lease:300}") final long lease) {
+        this.memberPurgeJobRepository = memberPurgeJobRepository;
+        this.memberRepository = memberRepository;
+        this.postService = postService;
+        this.commentService = commentService;
+        this.storedFileService = storedFileService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.memberPurgeExecutor = memberPurgeExecutor;
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+    }
+    
+    /**
+     * 탈퇴 회원 데이터 삭제 작업 등록
+     * 트랜잭션이 커밋된 후에 작업을 시작
+     *
+     * @param memberId - 탈퇴 회원 PK
+     * @return 작업 PK
+     */
+    public Long schedule(final Long memberId) {
+        Long id = memberPurgeJobRepository.save(new MemberPurgeJob(memberId)).getId();
+        runAfterCommit(() -> submit(id));
+        return id;
+    }
+    
+    /**
+     * 대기 중이거나 중단된 작업 재개
+     */
+    @Scheduled(fixedDelayString = "${member.purge.poll-interval:60000}",
+               initialDelayString = "${member.purge.poll-interval:60000}")
+    public void resume() {
+        memberPurgeJobRepository.findResumableIds(LocalDateTime.now().minusSeconds(lease)).forEach(this::submit);
+    }
+    
+    /**
+     * 작업 실행
+     * 다른 스레드/서버에서 진행 중인 작업이면 실행하지 않음
+     *
+     * @param id - 작업 PK
+     * @return 작업 완료 여부
+     */
+    public boolean run(final Long id) {
+        LocalDateTime now     = LocalDateTime.now();
+        Integer       claimed = transactionTemplate.execute(
+                status -> memberPurgeJobRepository.claim(id, now, now.minusSeconds(lease)));
+        if (claimed == null || claimed == 0) return false;
+        
+        Long memberId = memberPurgeJobRepository.findById(id).map(MemberPurgeJob::getMemberId).orElse(null);
+        if (memberId == null) return false;
+        
+        //작성한 게시글(게시글의 댓글 포함)
+        int count;
+        do {
+            count = inTransaction(id, () -> postService.deleteAllByWriter(memberId, chunkSize), true);
+        } while (count == chunkSize);
+        
+        //다른 게시글에 작성한 댓글
+        do {
+            count = inTransaction(id, () -> commentService.deleteAllByWriter(memberId, chunkSize), false);
+        } while (count == chunkSize);
+        
+        //계정
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.findById(memberId).ifPresent(this::deleteMember);
+            memberPurgeJobRepository.findById(id).ifPresent(MemberPurgeJob::complete);
+        });
+        log.info("Purged member {} (job {})", memberId, id);
+        return true;
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    /**
+     * 작업 실행 스레드 풀에 제출
+     * 스레드 풀이 가득 차면 다음 재개 주기에 다시 제출
+     *
+     * @param id - 작업 PK
+     */
+    private void submit(final Long id) {
+        try {
+            memberPurgeExecutor.execute(() -> {
+                try {
+                    run(id);
+                } catch (RuntimeException e) {
+                    log.error("Failed to purge member (job {}), will resume later", id, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Member purge job {} rejected, will resume later", id);
+        }
+    }
+    
+    /**
+     * 한 묶음 삭제 후 같은 트랜잭션에서 진행 상황 기록
+     *
+     * @param id    - 작업 PK
+     * @param chunk - 삭제 작업
+     * @param posts - 게시글 삭제 여부(false인 경우 댓글)
+     * @return 삭제된 갯수
+     */
+    private int inTransaction(final Long id, final IntSupplier chunk, final boolean posts) {
+        Integer count = transactionTemplate.execute(status -> {
+            int deleted = chunk.getAsInt();
+            memberPurgeJobRepository.findById(id)
+                                    .ifPresent(job -> job.progress(posts ? deleted : 0, posts ? 0 : deleted));
+            return deleted;
+        });
+        return count == null ? 0 : count;
+    }
+    
+    /**
+     * 계정 삭제
+     * 프로필 사진 파일은 참조를 해제하여 트랜잭션이 커밋된 후에 삭제
+     *
+     * @param member - 탈퇴 회원
+     */
+    private void deleteMember(final Member member) {
+        storedFileService.release(member.getProfileImage());
+        memberRepository.delete(member);
+    }
+    
+}
@@ -4,7 +4,7 @@ import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.ErrorCode;
 import com.project.alfa.common.error.exception.InvalidValueException;
 import com.project.alfa.common.util.EmailSender;
-import com.project.alfa.common.util.FileStore;
+import com.project.alfa.common.util.ImageResizer;
 import com.project.alfa.domain.*;
 import com.project.alfa.repository.CommentRepository;
 import com.project.alfa.repository.MemberRepository;
@@ -16,10 +16,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 @Slf4j
@@ -28,12 +32,15 @@ import java.util.*;
 @RequiredArgsConstructor
 public class MemberService {
     
-    private final MemberRepository  memberRepository;
-    private final EmailSender       emailSender;
-    private final PasswordEncoder   passwordEncoder;
-    private final FileStore         fileStore;
-    private final PostRepository    postRepository;
-    private final CommentRepository commentRepository;
+    private final MemberRepository           memberRepository;
+    private final EmailSender                emailSender;
+    private final PasswordEncoder            passwordEncoder;
+    private final StoredFileService          storedFileService;
+    private final PostRepository             postRepository;
+    private final CommentRepository          commentRepository;
+    private final MemberPurgeService         memberPurgeService;
+    private final ProfileImageVariantService profileImageVariantService;
+    private final PlatformTransactionManager transactionManager;
     
     /**
      * 회원가입
@@ -56,7 +63,7 @@ public class MemberService {
                                                         .storeFileName(null)
                                                         .storeFilePath(null)
                                                         .fileSize(null)
-                                                        .base64Data(null)
+                                                        .contentHash(null)
                                                         .build())
                               .build();
         
@@ -136,84 +143,41 @@ public class MemberService {
         return new MemberResponseDto(member, recent10Posts, recent10Comments);
     }
     
+    /**
+     * 프로필 사진 정보 조회
+     *
+     * @param id - 회원 PK
+     * @return 프로필 사진 정보
+     */
+    public ProfileImageResponseDto findProfileImage(final Long id) {
+        Member member = memberRepository.findById(id)
+                                        .orElseThrow(() -> new EntityNotFoundException(
+                                                "Could not found 'Member' entity by id: " + id));
+        if (member.getProfileImage() == null || member.getProfileImage().getImageKey() == null)
+            throw new EntityNotFoundException("Could not found 'ProfileImage' entity by member id: " + id);
+        
+        return new ProfileImageResponseDto(member.getProfileImage());
+    }
+    
     /**
      * 회원정보 수정
+     * 프로필 사진 파일은 먼저 저장하고, 회원정보와 프로필 사진 메타데이터만 짧은 트랜잭션에서 변경
+     * 회원정보 변경이 실패하면 저장한 파일은 참조되지 않으므로 주기적으로 정리되고, 이전 프로필 사진 파일은 참조를 해제
+     * 호출한 쪽에서 진행 중인 트랜잭션이 있으면 해당 트랜잭션에서 변경
      *
      * @param dto         - 회원정보
      * @param deleteImage - 프로필 사진 삭제 여부
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void update(final MemberUpdateRequestDto dto, final boolean deleteImage) {
-        Member member = memberRepository.findById(dto.getId())
-                                        .orElseThrow(() -> new EntityNotFoundException(
-                                                "Could not found 'Member' entity by id: " + dto.getId()));
-        
-        //비밀번호 확인
-        if (member.getProvider() == null && member.getProviderId() == null)
-            if (!passwordEncoder.matches(dto.getPassword(), member.getPassword()))
-                throw new InvalidValueException("Invalid input value", ErrorCode.PASSWORD_DO_NOT_MATCH);
-        
-        if (!member.getEmailAuth().getAuth()) {
-            resendConfirmEmail(member.getUsername());
-            throw new InvalidValueException("Email auth not completed", ErrorCode.EMAIL_AUTH_NOT_COMPLETED);
-        }
-        
-        //닉네임 중복 검증
-        if (!member.getNickname().equals(dto.getNickname())) validateDuplicate(null, dto.getNickname());
-        
-        //닉네임 변경
-        member.updateNickname(dto.getNickname());
-        
-        //서명 변경
-        member.updateSignature(dto.getSignature());
-        
-        //프로필 사진 변경
-        MultipartFile file = dto.getProfileImage();
-        if (!file.isEmpty()) {
-            UploadFile storeFile;
-            String     base64Data;
-            try {
-                base64Data = Base64.getEncoder().encodeToString(file.getBytes());
-                storeFile = fileStore.storeFile(file);
-                
-                if (member.getProfileImage().getStoreFilePath() == null) //프로필 사진 최초 등록 시
-                    member.getProfileImage()
-                          .updateImage(storeFile.getOriginalFileName(),
-                                       storeFile.getStoreFileName(),
-                                       storeFile.getStoreFilePath(),
-                                       file.getSize(),
-                                       base64Data);
-                else {    //프로필 사진 변경 시
-                    ProfileImage profileImage = member.getProfileImage();
-                    fileStore.deleteUploadedFile(profileImage.getStoreFilePath());
-                    
-                    profileImage.updateImage(storeFile.getOriginalFileName(),
-                                             storeFile.getStoreFileName(),
-                                             storeFile.getStoreFilePath(),
-                                             file.getSize(),
-                                             base64Data);
-                }
-            } catch (IOException e) {
-                throw new InvalidValueException(e.getMessage());
-            }
-        }
-        
-        //프로필 사진 삭제
-        if (deleteImage) {
-            ProfileImage profileImage = member.getProfileImage();
-            fileStore.deleteUploadedFile(profileImage.getStoreFilePath());
-            profileImage.delete();
-        }
-        
-        //비밀번호 변경
-        if ((dto.getNewPassword() != null && !dto.getNewPassword()
-                                                 .isEmpty()) && !passwordEncoder.matches(dto.getNewPassword(),
-                                                                                         member.getPassword()))
-            member.updatePassword(passwordEncoder.encode(dto.getNewPassword()));
+        UploadFile storeFile = storeProfileImage(dto.getProfileImage());
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> updateMember(dto, deleteImage, storeFile));
     }
     
     /**
      * 회원 탈퇴
+     * 계정을 비활성화하고 삭제 작업만 등록하며, 작성한 게시글/댓글과 계정은 백그라운드에서 나누어 삭제
      *
      * @param username - 아이디
      * @param password - 비밀번호 확인
@@ -221,6 +185,7 @@ public class MemberService {
     @Transactional
     public void delete(final String username, final String password) {
         Member member = memberRepository.findByUsername(username)
+                                        .filter(m -> !Boolean.TRUE.equals(m.getDisabled()))
                                         .orElseThrow(() -> new EntityNotFoundException(
                                                 "Could not found 'Member' entity by username: " + username));
         
@@ -228,10 +193,8 @@ public class MemberService {
             if (!passwordEncoder.matches(password, member.getPassword()))
                 throw new InvalidValueException("Invalid input value", ErrorCode.PASSWORD_DO_NOT_MATCH);
         
-        //프로필 사진 파일 삭제
-        if (member.getProfileImage().getStoreFilePath() != null)
-            fileStore.deleteUploadedFile(member.getProfileImage().getStoreFilePath());
-        memberRepository.delete(member);
+        member.disable();
+        memberPurgeService.schedule(member.getId());
     }
     
     /**
@@ -258,6 +221,87 @@ public class MemberService {
     }
     
     
+    //==================== 회원정보 수정 메서드 ====================//
+    
+    /**
+     * 프로필 사진 저장
+     * 이미지 형식과 크기는 전체를 디코딩하지 않고 헤더만 읽어 확인하며, 같은 내용의 파일은 한 번만 저장
+     *
+     * @param file - 프로필 사진
+     * @return 저장된 파일 정보(프로필 사진이 없으면 null)
+     */
+    private UploadFile storeProfileImage(final MultipartFile file) {
+        if (file.isEmpty()) return null;
+        try {
+            try (InputStream in = file.getInputStream()) {
+                if (ImageResizer.readSize(in) == null)
+                    throw new InvalidValueException("Invalid image: " + file.getOriginalFilename(),
+                                                    ErrorCode.INVALID_IMAGE);
+            }
+            return storedFileService.store(file);
+        } catch (IOException e) {
+            throw new InvalidValueException(e.getMessage());
+        }
+    }
+    
+    /**
+     * 회원정보 변경
+     *
+     * @param dto         - 회원정보
+     * @param deleteImage - 프로필 사진 삭제 여부
+     * @param storeFile   - 저장된 프로필 사진 파일 정보(변경하지 않으면 null)
+     */
+    private void updateMember(final MemberUpdateRequestDto dto, final boolean deleteImage, final UploadFile storeFile) {
+        Member member = memberRepository.findById(dto.getId())
+                                        .orElseThrow(() -> new EntityNotFoundException(
+                                                "Could not found 'Member' entity by id: " + dto.getId()));
+        
+        //비밀번호 확인
+        if (member.getProvider() == null && member.getProviderId() == null)
+            if (!passwordEncoder.matches(dto.getPassword(), member.getPassword()))
+                throw new InvalidValueException("Invalid input value", ErrorCode.PASSWORD_DO_NOT_MATCH);
+        
+        if (!member.getEmailAuth().getAuth()) {
+            resendConfirmEmail(member.getUsername());
+            throw new InvalidValueException("Email auth not completed", ErrorCode.EMAIL_AUTH_NOT_COMPLETED);
+        }
+        
+        //닉네임 중복 검증
+        if (!member.getNickname().equals(dto.getNickname())) validateDuplicate(null, dto.getNickname());
+        
+        //닉네임 변경
+        member.updateNickname(dto.getNickname());
+        
+        //서명 변경
+        member.updateSignature(dto.getSignature());
+        
+        //프로필 사진 변경
+        if (storeFile != null) {
+            ProfileImage profileImage = member.getProfileImage();
+            storedFileService.retain(storeFile.getContentHash());
+            storedFileService.release(profileImage);    //이전 프로필 사진
+            profileImage.updateImage(storeFile.getOriginalFileName(),
+                                     storeFile.getStoreFileName(),
+                                     storeFile.getStoreFilePath(),
+                                     storeFile.getFileSize(),
+                                     storeFile.getContentHash());
+            profileImageVariantService.generate(storeFile.getStoreFilePath());  //크기별 변환(커밋 후)
+        }
+        
+        //프로필 사진 삭제
+        if (deleteImage) {
+            ProfileImage profileImage = member.getProfileImage();
+            storedFileService.release(profileImage);
+            profileImage.delete();
+        }
+        
+        //비밀번호 변경
+        if ((dto.getNewPassword() != null && !dto.getNewPassword()
+                                                 .isEmpty()) && !passwordEncoder.matches(dto.getNewPassword(),
+                                                                                         member.getPassword()))
+            member.updatePassword(passwordEncoder.encode(dto.getNewPassword()));
+    }
+    
     //==================== 검증 메서드 ====================//
     
     /**
@@ -0,0 +1,132 @@
+package com.project.alfa.service;
+
+import com.project.alfa.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+
+/**
+ * 게시글 전체 갯수 카운터
+ * 목록 페이징의 전체 갯수를 매번 count 쿼리로 계산하지 않도록 (카테고리, 공지글 여부)별 갯수를 Redis Hash에 유지하고,
+ * 키워드 검색 갯수는 짧은 TTL로 캐싱
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCountService {
+    
+    private static final String COUNT_KEY         = "post:count";
+    private static final String SEARCH_KEY_PREFIX = "post:count:search:";
+    private static final String ALL               = "ALL";
+    
+    //카운터가 초기화된 경우에만 증감(초기화 전에는 다음 조회 시 DB에서 계산)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) end " +
+            "return nil", Long.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository      postRepository;
+    
+    @Value("${post.count.search-ttl:60}")
+    private long searchTtlSeconds;
+    
+    /**
+     * 카테고리, 공지글 여부에 따른 전체 갯수 조회
+     * 카운터가 없으면 DB에서 계산하여 초기화
+     *
+     * @param categoryId - 카테고리 PK(null인 경우 전체 카테고리)
+     * @param noticeYn   - 공지글 여부
+     * @return 전체 갯수
+     */
+    public long getCount(final Long categoryId, final Boolean noticeYn) {
+        String field  = field(categoryId, noticeYn);
+        Object cached = stringRedisTemplate.opsForHash().get(COUNT_KEY, field);
+        if (cached != null) return Math.max(0L, Long.parseLong(cached.toString()));
+        
+        long count = postRepository.countByCategoryAndNoticeYn(categoryId, noticeYn);
+        //동시에 초기화된 값이 있으면 덮어쓰지 않음
+        stringRedisTemplate.opsForHash().putIfAbsent(COUNT_KEY, field, String.valueOf(count));
+        return count;
+    }
+    
+    /**
+     * 키워드가 검색된 전체 갯수 조회
+     * 검색 조건별로 짧은 TTL 동안 캐싱된 갯수를 사용하므로 최근 변경 사항이 즉시 반영되지 않을 수 있음
+     *
+     * @param categoryId - 카테고리 PK(null인 경우 전체 카테고리)
+     * @param condition  - 검색 조건
+     * @param keyword    - 키워드
+     * @param noticeYn   - 공지글 여부
+     * @return 전체 갯수
+     */
+    public long getSearchCount(final Long categoryId,
+                               final String condition,
+                               final String keyword,
+                               final Boolean noticeYn) {
+        String key    = SEARCH_KEY_PREFIX + DigestUtils.md5DigestAsHex(
+                String.join("|", field(categoryId, noticeYn), String.valueOf(condition), String.valueOf(keyword))
+                      .getBytes(StandardCharsets.UTF_8));
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached != null) return Long.parseLong(cached);
+        
+        long count = postRepository.countByKeyword(categoryId, condition, keyword, noticeYn);
+        stringRedisTemplate.opsForValue().set(key, String.valueOf(count), Duration.ofSeconds(searchTtlSeconds));
+        return count;
+    }
+    
+    /**
+     * 게시글 추가/삭제에 따른 갯수 증감
+     * 트랜잭션이 커밋된 후에 반영하며, 전체 카테고리 카운터도 함께 증감
+     *
+     * @param categoryId - 카테고리 PK
+     * @param noticeYn   - 공지글 여부
+     * @param delta      - 증감량
+     */
+    public void adjust(final Long categoryId, final Boolean noticeYn, final long delta) {
+        runAfterCommit(() -> {
+            increment(field(categoryId, noticeYn), delta);
+            increment(field(null, noticeYn), delta);
+        });
+    }
+    
+    /**
+     * 카운터 초기화
+     * 일괄 삭제 등 카운터를 거치지 않은 변경으로 생긴 오차를 주기적으로 제거(다음 조회 시 DB에서 다시 계산)
+     */
+    @Scheduled(fixedDelayString = "${post.count.reset-interval:3600000}",
+               initialDelayString = "${post.count.reset-interval:3600000}")
+    public void reset() {
+        stringRedisTemplate.delete(COUNT_KEY);
+    }
+    
+    private void increment(final String field, final long delta) {
+        try {
+            stringRedisTemplate.execute(INCREMENT_SCRIPT,
+                                        Collections.singletonList(COUNT_KEY),
+                                        field,
+                                        String.valueOf(delta));
+        } catch (RuntimeException e) {
+            //증감에 실패하면 카운터를 제거하여 다음 조회 시 DB에서 다시 계산
+            log.warn("Failed to adjust post count '{}', resetting counter", field, e);
+            stringRedisTemplate.opsForHash().delete(COUNT_KEY, field);
+        }
+    }
+    
+    private static String field(final Long categoryId, final Boolean noticeYn) {
+        return (categoryId == null ? ALL : categoryId.toString()) + ":" + noticeYn;
+    }
+    
+}
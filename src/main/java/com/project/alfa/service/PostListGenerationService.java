@@ -0,0 +1,84 @@
+package com.project.alfa.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+
+/**
+ * 게시글 목록 캐시 세대(generation) 관리
+ * 목록/검색 페이지 캐시 키에 카테고리별 세대 번호를 포함하고, 게시글/댓글 변경 시 세대 번호를 올려
+ * 키 탐색 없이 이전 페이지 캐시를 조회 불가능하게 만듦(이전 캐시는 TTL로 만료)
+ */
+@Service
+@RequiredArgsConstructor
+public class PostListGenerationService {
+    
+    private static final String GENERATION_KEY = "post:list:generation";
+    private static final String ALL            = "ALL";
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    
+    /**
+     * 목록/검색 페이지 캐시 키 생성
+     * (카테고리, 세대, 공지글 여부, 페이지, 크기, 정렬, 검색 조건 + 키워드 해시) 형태의 결정적인 키
+     *
+     * @param categoryName - 카테고리 명
+     * @param noticeYn     - 공지글 여부
+     * @param condition    - 검색 조건(목록 조회인 경우 null)
+     * @param keyword      - 키워드(목록 조회인 경우 null)
+     * @param pageable     - 페이징 객체
+     * @return 캐시 키
+     */
+    public String key(final String categoryName,
+                      final Boolean noticeYn,
+                      final String condition,
+                      final String keyword,
+                      final Pageable pageable) {
+        StringBuilder sb = new StringBuilder().append(categoryName)
+                                              .append(":g").append(getGeneration(categoryName))
+                                              .append(":").append(noticeYn)
+                                              .append(":p").append(pageable.getPageNumber())
+                                              .append(":s").append(pageable.getPageSize())
+                                              .append(":").append(pageable.getSort().toString().replace(" ", ""));
+        //키워드는 임의의 문자열이므로 해시로 변환하여 키 구분자와 충돌하지 않도록 함
+        if (condition != null || keyword != null)
+            sb.append(":").append(DigestUtils.md5DigestAsHex((condition + "|" + keyword).getBytes(StandardCharsets.UTF_8)));
+        return sb.toString();
+    }
+    
+    /**
+     * 카테고리의 현재 세대 번호 조회
+     *
+     * @param categoryName - 카테고리 명
+     * @return 세대 번호
+     */
+    public long getGeneration(final String categoryName) {
+        Object generation = stringRedisTemplate.opsForHash().get(GENERATION_KEY, categoryName);
+        return generation == null ? 0L : Long.parseLong(generation.toString());
+    }
+    
+    /**
+     * 카테고리의 세대 번호 증가
+     * 트랜잭션이 커밋된 후에 반영하며, 전체 카테고리(ALL)의 세대 번호도 함께 증가
+     *
+     * @param categoryNames - 변경된 게시글의 카테고리 명
+     */
+    public void bump(final String... categoryNames) {
+        Set<String> names = new LinkedHashSet<>(Arrays.asList(categoryNames));
+        names.remove(null);
+        names.add(ALL);
+        
+        runAfterCommit(() -> names.forEach(name -> stringRedisTemplate.opsForHash()
+                                                                      .increment(GENERATION_KEY, name, 1L)));
+    }
+    
+}
@@ -0,0 +1,429 @@
+package com.project.alfa.service;
+
+import com.project.alfa.repository.PostRepository;
+import com.project.alfa.service.dto.PostListResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 게시글 순위(리더보드)
+ * 작성일 기준 일/월 버킷마다 Redis Sorted Set을 두고 게시글 작성, 조회, 댓글이 발생할 때 게시글이 작성된 버킷의 점수를 갱신
+ * 순위는 최근 기간(어제부터, 최근 1주/1개월/1년)에 걸친 버킷을 합쳐서(ZUNIONSTORE) 조회하며,
+ * 기간 안에 온전히 포함된 달은 월 버킷, 나머지는 일 버킷을 사용하여 합칠 버킷 수를 제한
+ *
+ * 키 종류
+ * 1. post:rank:view:{버킷}, post:rank:comment:{버킷} - 해당 일/월에 작성된 게시글의 조회수, 댓글 수
+ * 2. post:rank:created                              - 게시글 PK -> 작성일(yyyyMMdd), 점수를 갱신할 버킷 확인용
+ * 3. post:rank:window:{점수}:{기간}                  - 기간별로 합친 순위(WINDOW_TTL 동안 재사용)
+ * 4. post:rank:new:latest                           - 기간과 무관한 최신 게시글(최대 LATEST_SIZE 개)
+ */
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+    
+    private static final String   KEY_PREFIX     = "post:rank:";
+    private static final String   VIEW           = "view";
+    private static final String   COMMENT        = "comment";
+    private static final String   CREATED_KEY    = KEY_PREFIX + "created";
+    private static final String   LATEST_KEY     = KEY_PREFIX + "new:latest";
+    private static final int      LATEST_SIZE    = 100;
+    private static final int      SEED_PAGE_SIZE = 500;
+    private static final Duration SEED_TIMEOUT   = Duration.ofMinutes(1);   //버킷 초기화 잠금 유지 시간
+    private static final Duration WINDOW_TTL     = Duration.ofMinutes(1);   //기간별로 합친 순위 유지 시간
+    
+    private static final DateTimeFormatter DAY   = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    //신규 게시글 등록
+    //(KEYS: 일 조회수/댓글 수, 월 조회수/댓글 수, 작성일, 최신 게시글
+    // / ARGV: 게시글 PK, 작성일시, 최신 게시글 최대 개수, 작성일, 일 버킷 만료 일시, 월 버킷 만료 일시, 작성일 보관 기준)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, 4 do " +
+            "  redis.call('ZINCRBY', KEYS[i], 0, ARGV[1]) " +
+            "  redis.call('EXPIREAT', KEYS[i], ARGV[i <= 2 and 5 or 6]) " +
+            "end " +
+            "redis.call('ZADD', KEYS[5], ARGV[4], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[5], '-inf', '(' .. ARGV[7]) " +
+            "redis.call('ZADD', KEYS[6], ARGV[2], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[6], 0, -(tonumber(ARGV[3]) + 1)) " +
+            "return 0", Long.class);
+    
+    //게시글이 작성된 일/월 버킷에 점수 증감(ZINCRBY) 또는 설정(ZADD), 버킷이 없거나(만료, 초기화 전) 게시글이 없으면 무시
+    //버킷 키는 작성일로 스크립트 안에서 만듦(단일 Redis 기준)
+    //(KEYS: 작성일 / ARGV: 점수 키 접두사, 게시글 PK, 증감량 또는 점수, 명령)
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "local day = redis.call('ZSCORE', KEYS[1], ARGV[2]) " +
+            "if not day then return 0 end " +
+            "day = string.format('%d', tonumber(day)) " +
+            "for _, key in ipairs({ ARGV[1] .. 'd' .. day, ARGV[1] .. 'm' .. string.sub(day, 1, 6) }) do " +
+            "  if redis.call('ZSCORE', key, ARGV[2]) then redis.call(ARGV[4], key, ARGV[3], ARGV[2]) end " +
+            "end " +
+            "return 1", Long.class);
+    
+    //게시글이 작성된 일/월 버킷과 최신 게시글에서 제거
+    //(KEYS: 작성일, 최신 게시글 / ARGV: 게시글 PK, 점수 키 접두사 목록)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "local day = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if day then " +
+            "  day = string.format('%d', tonumber(day)) " +
+            "  for i = 2, #ARGV do " +
+            "    redis.call('ZREM', ARGV[i] .. 'd' .. day, ARGV[1]) " +
+            "    redis.call('ZREM', ARGV[i] .. 'm' .. string.sub(day, 1, 6), ARGV[1]) " +
+            "  end " +
+            "  redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "end " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "return 0", Long.class);
+    
+    //DB에서 채운 임시 버킷을 현재 버킷에 합치고 초기화 완료 표식 설정
+    //초기화 중에 반영된 점수가 있으면 큰 값을 유지
+    //(KEYS: 조회수, 조회수 임시, 댓글 수, 댓글 수 임시, 완료 표식 / ARGV: 만료 일시)
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, 3, 2 do " +
+            "  redis.call('ZUNIONSTORE', KEYS[i], 2, KEYS[i], KEYS[i + 1], 'AGGREGATE', 'MAX') " +
+            "  redis.call('DEL', KEYS[i + 1]) " +
+            "  redis.call('EXPIREAT', KEYS[i], ARGV[1]) " +
+            "end " +
+            "redis.call('SET', KEYS[5], '1') " +
+            "redis.call('EXPIREAT', KEYS[5], ARGV[1]) " +
+            "return 0", Long.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository      postRepository;
+    
+    //==================== 순위 갱신 메서드 ====================//
+    
+    /**
+     * 신규 게시글 등록(트랜잭션 커밋 후 반영)
+     *
+     * @param postId      - 게시글 PK
+     * @param createdDate - 작성일시
+     */
+    public void addPost(final Long postId, final LocalDateTime createdDate) {
+        runAfterCommit(() -> {
+            LocalDate date  = createdDate.toLocalDate();
+            String    day   = day(date);
+            String    month = month(date);
+            stringRedisTemplate.execute(ADD_SCRIPT,
+                                        Arrays.asList(key(VIEW, day),
+                                                      key(COMMENT, day),
+                                                      key(VIEW, month),
+                                                      key(COMMENT, month),
+                                                      CREATED_KEY,
+                                                      LATEST_KEY),
+                                        postId.toString(),
+                                        String.valueOf(toEpochMilli(createdDate)),
+                                        String.valueOf(LATEST_SIZE),
+                                        String.valueOf(dayNumber(date)),
+                                        String.valueOf(expireAt(day)),
+                                        String.valueOf(expireAt(month)),
+                                        String.valueOf(dayNumber(LocalDate.now().minusYears(1).minusDays(1))));
+        });
+    }
+    
+    /**
+     * 조회수 순위 증가
+     *
+     * @param postId - 게시글 PK
+     */
+    public void increaseViewCount(final Long postId) {
+        increment(VIEW, postId, 1L);
+    }
+    
+    /**
+     * 댓글 수 순위 증감(트랜잭션 커밋 후 반영)
+     *
+     * @param postId - 게시글 PK
+     * @param delta  - 증감량
+     */
+    public void increaseCommentCount(final Long postId, final long delta) {
+        runAfterCommit(() -> increment(COMMENT, postId, delta));
+    }
+    
+    /**
+     * 댓글 수 순위 보정(트랜잭션 커밋 후 반영)
+     *
+     * @param postId - 게시글 PK
+     * @param count  - 실제 댓글 수
+     */
+    public void updateCommentCount(final Long postId, final long count) {
+        runAfterCommit(() -> update(COMMENT, postId, count, "ZADD"));
+    }
+    
+    /**
+     * 삭제된 게시글을 작성일 버킷에서 제거(트랜잭션 커밋 후 반영)
+     * 기간별로 합친 순위에 남은 게시글은 조회 시 DB에 없으므로 제외됨
+     *
+     * @param postId - 게시글 PK
+     */
+    public void removePost(final Long postId) {
+        runAfterCommit(() -> stringRedisTemplate.execute(REMOVE_SCRIPT,
+                                                         Arrays.asList(CREATED_KEY, LATEST_KEY),
+                                                         postId.toString(),
+                                                         KEY_PREFIX + VIEW + ":",
+                                                         KEY_PREFIX + COMMENT + ":"));
+    }
+    
+    //==================== 순위 조회 메서드 ====================//
+    
+    /**
+     * 기간 내 작성된 게시글 중 조회수 상위 N개 목록 조회
+     *
+     * @param period - 기간: 1d(어제부터), 1w(최근 1주), 1m(최근 1개월), 1y(최근 1년)
+     * @param total  - 조회할 갯수(N)
+     * @return 게시글 N개 목록
+     */
+    public List<PostListResponseDto> findTopNViewCount(final String period, final int total) {
+        return findTopN(VIEW, toPeriod(period), total);
+    }
+    
+    /**
+     * 기간 내 작성된 게시글 중 댓글 수 상위 N개 목록 조회
+     *
+     * @param period - 기간: 1d(어제부터), 1w(최근 1주), 1m(최근 1개월), 1y(최근 1년)
+     * @param total  - 조회할 갯수(N)
+     * @return 게시글 N개 목록
+     */
+    public List<PostListResponseDto> findTopNCommentCount(final String period, final int total) {
+        return findTopN(COMMENT, toPeriod(period), total);
+    }
+    
+    /**
+     * 신규 게시글 N개 목록 조회
+     *
+     * @param total - 조회할 갯수(N), 최대 LATEST_SIZE 개
+     * @return 게시글 N개 목록
+     */
+    public List<PostListResponseDto> findTopNNewPosts(final int total) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(LATEST_KEY))) seedLatest();
+        return fetch(stringRedisTemplate.opsForZSet().reverseRange(LATEST_KEY, 0, Math.min(total, LATEST_SIZE) - 1));
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    /**
+     * 기간별 순위 조회
+     * 기간에 걸친 버킷을 합친 결과를 WINDOW_TTL 동안 재사용
+     *
+     * @param metric - 점수 종류
+     * @param period - 기간 단위
+     * @param total  - 조회할 갯수
+     * @return 게시글 목록
+     */
+    private List<PostListResponseDto> findTopN(final String metric, final char period, final int total) {
+        LocalDate    today   = LocalDate.now();
+        List<String> buckets = buckets(windowStart(period, today), today);
+        seed(buckets);
+        
+        String windowKey = KEY_PREFIX + "window:" + metric + ":" + period;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(windowKey))) {
+            List<String> keys = buckets.stream().map(bucket -> key(metric, bucket)).collect(toList());
+            stringRedisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), windowKey);
+            stringRedisTemplate.expire(windowKey, WINDOW_TTL);
+        }
+        return fetch(stringRedisTemplate.opsForZSet().reverseRange(windowKey, 0, total - 1));
+    }
+    
+    private void increment(final String metric, final Long postId, final long delta) {
+        update(metric, postId, delta, "ZINCRBY");
+    }
+    
+    private void update(final String metric, final Long postId, final long value, final String command) {
+        stringRedisTemplate.execute(UPDATE_SCRIPT,
+                                    Collections.singletonList(CREATED_KEY),
+                                    KEY_PREFIX + metric + ":",
+                                    postId.toString(),
+                                    String.valueOf(value),
+                                    command);
+    }
+    
+    /**
+     * 버킷 초기화
+     * 배포 직후, Redis 초기화 등으로 초기화 완료 표식이 없는 버킷은 DB에서 해당 일/월에 작성된 게시글로 채움
+     *
+     * @param buckets - 버킷 목록
+     */
+    private void seed(final List<String> buckets) {
+        List<String> done = stringRedisTemplate.opsForValue()
+                                               .multiGet(buckets.stream()
+                                                                .map(bucket -> KEY_PREFIX + "seeded:" + bucket)
+                                                                .collect(toList()));
+        for (int i = 0; i < buckets.size(); i++)
+            if (done == null || done.get(i) == null) seed(buckets.get(i));
+    }
+    
+    /**
+     * 버킷 하나 초기화
+     * 짧은 잠금을 선점한 요청만 실행하며, 게시글을 페이지 단위로 조회하여 임시 버킷에 일괄 추가(ZADD)한 뒤
+     * 모두 채워지면 현재 버킷에 합치고 완료 표식 설정(도중에 실패하면 완료 표식이 없으므로 다음 조회에서 다시 초기화)
+     *
+     * @param bucket - 버킷
+     */
+    private void seed(final String bucket) {
+        String lockKey = KEY_PREFIX + "seeding:" + bucket;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, "1", SEED_TIMEOUT))) return;
+        
+        try {
+            String        viewTemp    = key(VIEW, bucket) + ":seed";
+            String        commentTemp = key(COMMENT, bucket) + ":seed";
+            LocalDateTime from        = bucketStart(bucket).atStartOfDay();
+            LocalDateTime to          = bucketEnd(bucket).atStartOfDay();
+            
+            Long                      afterId = null;
+            List<PostListResponseDto> posts;
+            do {
+                posts = postRepository.findListByCreatedDateBetween(from, to, afterId, SEED_PAGE_SIZE);
+                if (posts.isEmpty()) break;
+                
+                Set<TypedTuple<String>> views    = new HashSet<>();
+                Set<TypedTuple<String>> comments = new HashSet<>();
+                Set<TypedTuple<String>> created  = new HashSet<>();
+                for (PostListResponseDto post : posts) {
+                    String member = post.getId().toString();
+                    views.add(new DefaultTypedTuple<>(member, (double) post.getViewCount()));
+                    comments.add(new DefaultTypedTuple<>(member, (double) post.getCommentsCount()));
+                    created.add(new DefaultTypedTuple<>(member,
+                                                        (double) dayNumber(post.getCreatedDate().toLocalDate())));
+                }
+                stringRedisTemplate.opsForZSet().add(viewTemp, views);
+                stringRedisTemplate.opsForZSet().add(commentTemp, comments);
+                stringRedisTemplate.opsForZSet().add(CREATED_KEY, created);
+                stringRedisTemplate.expire(viewTemp, SEED_TIMEOUT);
+                stringRedisTemplate.expire(commentTemp, SEED_TIMEOUT);
+                afterId = posts.get(posts.size() - 1).getId();
+            } while (posts.size() == SEED_PAGE_SIZE);
+            
+            stringRedisTemplate.execute(MERGE_SCRIPT,
+                                        Arrays.asList(key(VIEW, bucket),
+                                                      viewTemp,
+                                                      key(COMMENT, bucket),
+                                                      commentTemp,
+                                                      KEY_PREFIX + "seeded:" + bucket),
+                                        String.valueOf(expireAt(bucket)));
+        } finally {
+            stringRedisTemplate.delete(lockKey);
+        }
+    }
+    
+    private void seedLatest() {
+        postRepository.findTopNByPeriod(LATEST_SIZE, null)
+                      .forEach(post -> stringRedisTemplate.opsForZSet().add(LATEST_KEY,
+                                                                            post.getId().toString(),
+                                                                            toEpochMilli(post.getCreatedDate())));
+    }
+    
+    /**
+     * 순위 순서대로 게시글 조회
+     * 삭제 등으로 DB에 없는 게시글은 제외
+     *
+     * @param ids - 게시글 PK 목록(순위 순)
+     * @return 게시글 목록
+     */
+    private List<PostListResponseDto> fetch(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) return Collections.emptyList();
+        return postRepository.findListByIds(ids.stream().map(Long::valueOf).collect(toList()));
+    }
+    
+    /**
+     * 기간에 걸친 버킷 목록
+     * 기간 안에 온전히 포함된 달은 월 버킷, 나머지 날짜는 일 버킷
+     *
+     * @param from - 시작일(포함)
+     * @param to   - 종료일(포함)
+     * @return 버킷 목록
+     */
+    private static List<String> buckets(final LocalDate from, final LocalDate to) {
+        List<String> buckets = new ArrayList<>();
+        LocalDate    date    = from;
+        while (!date.isAfter(to)) {
+            if (date.getDayOfMonth() == 1 && !date.plusMonths(1).minusDays(1).isAfter(to)) {
+                buckets.add(month(date));
+                date = date.plusMonths(1);
+            } else {
+                buckets.add(day(date));
+                date = date.plusDays(1);
+            }
+        }
+        return buckets;
+    }
+    
+    /**
+     * 기간 시작일(게시글 기간 조회와 같은 기준: 1d -> 어제, 1w -> 1주 전, 1m -> 1개월 전, 1y -> 1년 전)
+     */
+    private static LocalDate windowStart(final char period, final LocalDate today) {
+        switch (period) {
+            case 'w':
+                return today.minusWeeks(1);
+            case 'm':
+                return today.minusMonths(1);
+            case 'y':
+                return today.minusYears(1);
+            default:
+                return today.minusDays(1);
+        }
+    }
+    
+    /**
+     * 버킷 식별자: d20240131(일), m202401(월)
+     */
+    private static String day(final LocalDate date) {
+        return "d" + date.format(DAY);
+    }
+    
+    private static String month(final LocalDate date) {
+        return "m" + date.format(MONTH);
+    }
+    
+    private static String key(final String metric, final String bucket) {
+        return KEY_PREFIX + metric + ":" + bucket;
+    }
+    
+    private static LocalDate bucketStart(final String bucket) {
+        if (bucket.charAt(0) == 'm') return YearMonth.parse(bucket.substring(1), MONTH).atDay(1);
+        return LocalDate.parse(bucket.substring(1), DAY);
+    }
+    
+    private static LocalDate bucketEnd(final String bucket) {
+        LocalDate start = bucketStart(bucket);
+        return bucket.charAt(0) == 'm' ? start.plusMonths(1) : start.plusDays(1);
+    }
+    
+    /**
+     * 버킷 만료 일시(epoch seconds): 가장 긴 기간(최근 1년)에 더 이상 포함되지 않을 때까지 유지
+     */
+    private static long expireAt(final String bucket) {
+        return bucketEnd(bucket).plusYears(1).plusDays(1).atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+    }
+    
+    /**
+     * 작성일 점수(yyyyMMdd)
+     */
+    private static long dayNumber(final LocalDate date) {
+        return date.getYear() * 10000L + date.getMonthValue() * 100L + date.getDayOfMonth();
+    }
+    
+    /**
+     * 기간 문자열(1d, 1w, 1m, 1y)을 기간 단위로 변환, 해석할 수 없으면 일 단위
+     */
+    private static char toPeriod(final String period) {
+        if (period != null && period.matches("^1[dwmy]$")) return period.charAt(1);
+        return 'd';
+    }
+    
+    private static long toEpochMilli(final LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+}
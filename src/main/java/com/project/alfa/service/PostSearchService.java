@@ -0,0 +1,167 @@
+package com.project.alfa.service;
+
+import com.project.alfa.common.search.PostDocument;
+import com.project.alfa.common.search.PostSearchIndex;
+import com.project.alfa.domain.Post;
+import com.project.alfa.repository.PostRepository;
+import com.project.alfa.service.dto.PostListResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 게시글 검색
+ * 검색 색인에서 키워드가 포함된 게시글 PK를 조회한 뒤, 요청한 페이지의 게시글만 DB에서 조회
+ * 애플리케이션 시작 시 스냅샷을 복원하고 스냅샷 이후 변경된 게시글만 다시 색인
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository  postRepository;
+    private final String          snapshotPath;
+    
+    private volatile boolean ready;
+    
+    public PostSearchService(PostSearchIndex postSearchIndex,
+                             PostRepository postRepository,
+                             @Value("${post.search.snapshot-path:}") String snapshotPath) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+        this.snapshotPath = snapshotPath;
+    }
+    
+    /**
+     * 검색 색인 사용 가능 여부
+     *
+     * @return 초기화 완료 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 검색 색인 초기화
+     * 스냅샷이 있으면 복원 후 스냅샷 이후 변경분만, 없으면 전체 게시글을 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDateTime since = null;
+        if (hasText(snapshotPath)) try {
+            since = postSearchIndex.readSnapshot(Paths.get(snapshotPath));
+        } catch (IOException e) {
+            log.warn("Failed to read search index snapshot, rebuilding index", e);
+            postSearchIndex.clear();
+        }
+        
+        //스냅샷 저장 중 커밋된 변경분을 놓치지 않도록 기준 일시를 여유 있게 설정
+        int indexed = reindex(since == null ? null : since.minusMinutes(1));
+        int removed = 0;
+        if (since != null) {
+            Set<Long> stale = postSearchIndex.getIds();
+            stale.removeAll(postRepository.findAllIds());
+            stale.forEach(postSearchIndex::remove);
+            removed = stale.size();
+        }
+        
+        ready = true;
+        log.info("Search index ready: {} posts indexed, {} stale posts removed (snapshot: {})",
+                 indexed, removed, since == null ? "none" : since);
+    }
+    
+    /**
+     * 게시글 검색
+     * 게시글 변경은 트랜잭션이 커밋된 후에 검색 색인에 반영되므로, 같은 트랜잭션에서 변경된 내용은 검색되지 않음
+     *
+     * @param condition  - 검색 조건
+     * @param keyword    - 키워드
+     * @param categoryId - 카테고리 PK(null인 경우 전체 카테고리)
+     * @param noticeYn   - 공지글 여부
+     * @param pageable   - 페이징 객체
+     * @return 검색된 게시글 목록
+     */
+    public Page<PostListResponseDto> search(final String condition,
+                                            final String keyword,
+                                            final Long categoryId,
+                                            final Boolean noticeYn,
+                                            Pageable pageable) {
+        Page<Long> ids = postSearchIndex.search(condition, keyword, categoryId, noticeYn, pageable);
+        return new PageImpl<>(postRepository.findListByIds(ids.getContent()), pageable, ids.getTotalElements());
+    }
+    
+    /**
+     * 일괄 삭제된 게시글을 검색 색인에서 제거
+     * 일괄 삭제 쿼리는 엔티티 리스너를 거치지 않으므로 트랜잭션이 커밋된 후에 직접 제거
+     *
+     * @param ids - 삭제된 게시글 PK 목록
+     */
+    public void remove(final Collection<Long> ids) {
+        runAfterCommit(() -> ids.forEach(postSearchIndex::remove));
+    }
+    
+    /**
+     * 검색 색인 스냅샷 저장
+     */
+    @Scheduled(fixedDelayString = "${post.search.snapshot-interval:600000}",
+               initialDelayString = "${post.search.snapshot-interval:600000}")
+    public void snapshot() {
+        if (!ready || !hasText(snapshotPath)) return;
+        
+        LocalDateTime takenAt = LocalDateTime.now();
+        try {
+            postSearchIndex.writeSnapshot(Paths.get(snapshotPath), takenAt);
+        } catch (IOException e) {
+            log.error("Failed to write search index snapshot", e);
+        }
+    }
+    
+    /**
+     * 애플리케이션 종료 시 검색 색인 스냅샷 저장
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+    
+    /**
+     * 게시글 일괄 색인
+     *
+     * @param modifiedSince - 최종 수정일시 기준(null인 경우 전체)
+     * @return 색인된 게시글 수
+     */
+    private int reindex(final LocalDateTime modifiedSince) {
+        int  indexed = 0;
+        Long afterId = null;
+        
+        List<Post> posts;
+        do {
+            posts = postRepository.findForIndexing(afterId, modifiedSince, BATCH_SIZE);
+            for (Post post : posts)
+                postSearchIndex.index(PostDocument.of(post));
+            indexed += posts.size();
+            if (!posts.isEmpty()) afterId = posts.get(posts.size() - 1).getId();
+        } while (posts.size() == BATCH_SIZE);
+        return indexed;
+    }
+    
+}
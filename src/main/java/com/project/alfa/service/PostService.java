@@ -3,26 +3,37 @@ package com.project.alfa.service;
 import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.ErrorCode;
 import com.project.alfa.common.error.exception.InvalidValueException;
+import com.project.alfa.common.util.KeysetCursor;
+import com.project.alfa.domain.Category;
 import com.project.alfa.domain.Post;
 import com.project.alfa.repository.CategoryRepository;
+import com.project.alfa.repository.CommentRepository;
 import com.project.alfa.repository.MemberRepository;
 import com.project.alfa.repository.PostRepository;
 import com.project.alfa.service.dto.PostListResponseDto;
 import com.project.alfa.service.dto.PostReadResponseDto;
+import com.project.alfa.service.dto.PostSliceResponseDto;
 import com.project.alfa.service.dto.PostWriteRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
 import static java.util.stream.Collectors.toList;
 
 @Slf4j
@@ -31,23 +42,37 @@ import static java.util.stream.Collectors.toList;
 @RequiredArgsConstructor
 public class PostService {
     
-    private final PostRepository     postRepository;
-    private final MemberRepository   memberRepository;
-    private final CategoryRepository categoryRepository;
-    private final CacheManager       cacheManager;
+    private static final int COMMENTS_PAGE_SIZE = 10;   //게시글 상세에 포함되는 댓글 갯수
+    private static final int BULK_DELETE_SIZE   = 500;  //일괄 삭제 시 한 트랜잭션에서 삭제할 게시글 수
+    
+    private final PostRepository             postRepository;
+    private final CommentRepository          commentRepository;
+    private final MemberRepository           memberRepository;
+    private final CategoryRepository         categoryRepository;
+    private final CacheManager               cacheManager;
+    private final PostViewCountService       postViewCountService;
+    private final PostViewerService          postViewerService;
+    private final PostCountService           postCountService;
+    private final PostSearchService          postSearchService;
+    private final PostListGenerationService  postListGenerationService;
+    private final PostRankingService         postRankingService;
+    private final PostTrendingService        postTrendingService;
+    private final CommentService             commentService;
+    private final PlatformTransactionManager transactionManager;
     
     /**
      * 게시글 저장
+     * 작성자는 존재 여부와 탈퇴 처리 여부만 확인하고 프록시로 참조하여 작성자 정보와 작성한 게시글 목록을 로딩하지 않음
      *
      * @param dto - 게시글 정보
      * @return 게시글 PK
      */
     @Transactional
     public Long save(final PostWriteRequestDto dto) {
+        validateWriter(dto.getWId());
+        
         Post post = postRepository.save(Post.builder()
-                                            .writer(memberRepository.findById(dto.getWId())
-                                                                    .orElseThrow(() -> new EntityNotFoundException(
-                                                                            "Could not found 'Member' entity by id: " + dto.getWId())))
+                                            .writer(memberRepository.getReferenceById(dto.getWId()))
                                             .title(dto.getTitle())
                                             .content(dto.getContent())
                                             .category(categoryRepository.findById(dto.getCId())
@@ -55,73 +80,86 @@ public class PostService {
                                                                                 "Could not found 'Category' entity by id: " + dto.getCId())))
                                             .noticeYn(dto.getNoticeYn())
                                             .build());
+        postCountService.adjust(post.getCategory().getId(), post.getNoticeYn(), 1);
+        postListGenerationService.bump(post.getCategory().getName());
+        postRankingService.addPost(post.getId(), post.getCreatedDate());
+        postTrendingService.recordPost(post.getId());
         return post.getId();
     }
     
-    /**
-     * 게시글 상세 조회(@Cacheable)
-     *
-     * @param id - 게시글 PK
-     * @return 게시글 상세 정보
-     */
-    //    @Cacheable(value = "postCache", unless = "#result == null", key = "{#id, #sessionId, #ipAddress}")
-    @Cacheable(value = "postCache", unless = "#result == null", keyGenerator = "customKeyGenerator")
-    public PostReadResponseDto readPost(final Long id, final String sessionId, final String ipAddress) {
-        return new PostReadResponseDto(postRepository.findById(id)
-                                                     .orElseThrow(() -> new EntityNotFoundException(
-                                                             "Could not found 'Post' entity by id: " + id)));
-    }
-    
     /**
      * 게시글 정보 조회
+     * 게시글 PK 기준으로 공유되는 postCache를 먼저 확인하고, 조회수는 DB 반영 대기 중인 증가분을 더해서 반환
+     * 캐시가 없을 때 동시에 들어온 같은 게시글 조회는 한 번만 적재
      *
      * @param id - 게시글 PK
      * @return 게시글 상세 정보
      */
     public PostReadResponseDto readPost(final Long id) {
-        return new PostReadResponseDto(postRepository.findById(id)
-                                                     .orElseThrow(() -> new EntityNotFoundException(
-                                                             "Could not found 'Post' entity by id: " + id)));
+        Cache               postCache = cacheManager.getCache("postCache");
+        PostReadResponseDto post;
+        
+        if (postCache == null) post = loadPost(id);
+        else {
+            try {
+                post = postCache.get(id, () -> loadPost(id));
+            } catch (Cache.ValueRetrievalException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                throw e;
+            }
+        }
+        
+        return post.withViewCount(post.getViewCount() + (int) postViewCountService.getPendingCount(id));
     }
     
     /**
-     * 게시글 조회수 증가(@CachePut)
+     * 게시글 조회수 증가
+     * 증가분은 Redis에 누적되고 PostViewCountService에 의해 주기적으로 DB에 일괄 반영
      *
-     * @param id - 게시글 PK
+     * @param id        - 게시글 PK
+     * @param memberId  - 조회한 회원 PK(비회원인 경우 null)
+     * @param ipAddress - IP 주소
      */
-    //    @CachePut(value = "postCache", unless = "#post == null", key = "{#id, #sessionId, #ipAddress}")
-    @CachePut(value = "postCache", unless = "#post == null", keyGenerator = "customKeyGenerator")
-    @Transactional
-    public void updateViewCount(final Long id, final String sessionId, final String ipAddress) {
-        Post post = postRepository.findById(id)
-                                  .orElseThrow(() -> new EntityNotFoundException("Could not found 'Post' entity by id: " + id));
-        if (!isPostCached(id, sessionId, ipAddress)) post.addViewCount();   //캐시 값이 없다면 조회수 증가
+    public void updateViewCount(final Long id, final Long memberId, final String ipAddress) {
+        if (!postRepository.existsById(id))
+            throw new EntityNotFoundException("Could not found 'Post' entity by id: " + id);
+        //기간 내 첫 조회인 경우 조회수 증가
+        if (postViewerService.isNewViewer(id, memberId, ipAddress)) {
+            postViewCountService.increase(id);
+            postRankingService.increaseViewCount(id);
+            postTrendingService.recordView(id);
+        }
     }
     
     /**
      * 게시글 목록 조회
+     * 전체 갯수는 count 쿼리 대신 (카테고리, 공지글 여부)별로 유지되는 카운터에서 조회
      *
      * @param categoryName - 카테고리 명
      * @param noticeYn     - 공지글 여부
      * @param pageable     - 페이징 객체
      * @return 게시글 목록
      */
-    @Cacheable(value = "postList", unless = "#result == null || #result.totalElements > 0", key = "{#categoryName, #noticeYn, #pageable, #result}")
+    @Cacheable(value = "postList", sync = true, key = "@postListGenerationService.key(#categoryName, #noticeYn, null, null, #pageable)")
     public Page<PostListResponseDto> findAll(final String categoryName, final Boolean noticeYn, Pageable pageable) {
         if (categoryName.equals("ALL"))
-            return postRepository.findAllByNoticeYnOrderByCreatedDateDesc(noticeYn, pageable)
-                                 .map(PostListResponseDto::new);
-        else return postRepository.findAllByCategoryAndNoticeYnOrderByCreatedDateDesc(categoryRepository.findByName(
-                                                                                                                categoryName)
-                                                                                                        .orElseThrow(() -> new EntityNotFoundException(
-                                                                                                                "Could not found 'Category' entity by name: " + categoryName)),
-                                                                                      noticeYn,
-                                                                                      pageable)
-                                  .map(PostListResponseDto::new);
+            return postRepository.findListByNoticeYn(noticeYn,
+                                                     pageable,
+                                                     () -> postCountService.getCount(null, noticeYn));
+        
+        Category category = categoryRepository.findByName(categoryName)
+                                              .orElseThrow(() -> new EntityNotFoundException(
+                                                      "Could not found 'Category' entity by name: " + categoryName));
+        return postRepository.findListByCategoryAndNoticeYn(category,
+                                                            noticeYn,
+                                                            pageable,
+                                                            () -> postCountService.getCount(category.getId(), noticeYn));
     }
     
     /**
      * 게시글 검색 목록 조회
+     * 검색 색인에서 요청한 페이지의 게시글 PK를 조회하며, 색인이 초기화되기 전에는 DB에서 검색
+     * DB 검색 시 전체 갯수는 검색 조건별로 짧은 TTL 동안 캐싱된 값을 사용
      *
      * @param categoryName - 카테고리 명
      * @param condition    - 검색 조건
@@ -130,21 +168,88 @@ public class PostService {
      * @param pageable     - 페이징 객체
      * @return 검색된 게시글 목록
      */
-    @Cacheable(value = "searchList", unless = "#result == null || #result.totalElements > 0", key = "{#categoryName, #condition, #keyword, #noticeYn, #pageable, #result}")
+    @Cacheable(value = "searchList", sync = true, key = "@postListGenerationService.key(#categoryName, #noticeYn, #condition, #keyword, #pageable)")
     public Page<PostListResponseDto> findAllWithKeyword(final String categoryName,
                                                         final String condition,
                                                         final String keyword,
                                                         final Boolean noticeYn,
                                                         Pageable pageable) {
-        if (categoryName.equals("ALL"))
-            return postRepository.searchByKeyword(condition, keyword, noticeYn, pageable).map(PostListResponseDto::new);
-        else return postRepository.searchByKeyword(categoryRepository.findByName(categoryName)
-                                                                     .orElseThrow(() -> new EntityNotFoundException(
-                                                                             "Could not found 'Category' entity by name: " + categoryName)),
-                                                   condition,
-                                                   keyword,
-                                                   noticeYn,
-                                                   pageable).map(PostListResponseDto::new);
+        Category category = categoryName.equals("ALL")
+                            ? null
+                            : categoryRepository.findByName(categoryName)
+                                                .orElseThrow(() -> new EntityNotFoundException(
+                                                        "Could not found 'Category' entity by name: " + categoryName));
+        Long categoryId = category == null ? null : category.getId();
+        
+        if (postSearchService.isReady())
+            return postSearchService.search(condition, keyword, categoryId, noticeYn, pageable);
+        
+        if (category == null)
+            return postRepository.searchListByKeyword(condition,
+                                                      keyword,
+                                                      noticeYn,
+                                                      pageable,
+                                                      () -> postCountService.getSearchCount(null, condition, keyword, noticeYn));
+        return postRepository.searchListByKeyword(category,
+                                                  condition,
+                                                  keyword,
+                                                  noticeYn,
+                                                  pageable,
+                                                  () -> postCountService.getSearchCount(categoryId,
+                                                                                        condition,
+                                                                                        keyword,
+                                                                                        noticeYn));
+    }
+    
+    /**
+     * 게시글 목록 커서 기반 조회
+     * (작성일, PK) 키셋 페이징으로 페이지 깊이와 관계없이 일정한 비용으로 조회
+     *
+     * @param categoryName - 카테고리 명
+     * @param condition    - 검색 조건
+     * @param keyword      - 키워드(null인 경우 검색하지 않음)
+     * @param noticeYn     - 공지글 여부
+     * @param cursor       - 커서(null인 경우 첫 페이지)
+     * @param backward     - true: 이전 페이지, false: 다음 페이지
+     * @param size         - 페이지 크기
+     * @return 게시글 목록과 이전/다음 페이지 커서
+     */
+    public PostSliceResponseDto findAllByCursor(final String categoryName,
+                                                final String condition,
+                                                final String keyword,
+                                                final Boolean noticeYn,
+                                                final String cursor,
+                                                final boolean backward,
+                                                final int size) {
+        Category category = categoryName.equals("ALL") ? null : categoryRepository.findByName(categoryName)
+                                                                                  .orElseThrow(() -> new EntityNotFoundException(
+                                                                                          "Could not found 'Category' entity by name: " + categoryName));
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        boolean      isBackward   = backward && keysetCursor != null;    //첫 페이지에서는 이전 페이지 없음
+        int          limit        = Math.min(Math.max(size, 1), 100);
+        
+        //다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<PostListResponseDto> result = postRepository.findListByCursor(category,
+                                                                           condition,
+                                                                           keyword,
+                                                                           noticeYn,
+                                                                           keysetCursor == null ? null : keysetCursor.getCreatedDate(),
+                                                                           keysetCursor == null ? null : keysetCursor.getId(),
+                                                                           isBackward,
+                                                                           limit + 1);
+        boolean                   hasMore = result.size() > limit;
+        List<PostListResponseDto> content = new ArrayList<>(hasMore ? result.subList(0, limit) : result);
+        if (isBackward) Collections.reverse(content);   //이전 페이지는 작성일 오름차순으로 조회되므로 뒤집어서 반환
+        if (content.isEmpty()) return new PostSliceResponseDto(content, null, null);
+        
+        PostListResponseDto first = content.get(0);
+        PostListResponseDto last  = content.get(content.size() - 1);
+        
+        boolean hasPrev = isBackward ? hasMore : keysetCursor != null;
+        boolean hasNext = isBackward || hasMore;
+        return new PostSliceResponseDto(content,
+                                        hasPrev ? KeysetCursor.encode(first.getCreatedDate(), first.getId()) : null,
+                                        hasNext ? KeysetCursor.encode(last.getCreatedDate(), last.getId()) : null);
     }
     
     /**
@@ -179,29 +284,42 @@ public class PostService {
         Post post = postRepository.findById(dto.getId())
                                   .orElseThrow(() -> new EntityNotFoundException("Could not found 'Post' entity by id: " + dto.getId()));
         
-        if (!memberRepository.existsById(dto.getWId()))
-            throw new EntityNotFoundException("Could not found 'Member' entity by id: " + dto.getWId());
+        validateWriter(dto.getWId());
         //작성자 확인
         if (!post.getWriter().getId().equals(dto.getWId()))
             throw new InvalidValueException("Not writer of post", ErrorCode.NOT_WRITER_OF_POST);
         
+        Long    beforeCategoryId   = post.getCategory().getId();
+        String  beforeCategoryName = post.getCategory().getName();
+        Boolean beforeNoticeYn     = post.getNoticeYn();
+        
         post.updateTitle(dto.getTitle());
         post.updateContent(dto.getContent());
         post.updateCategory(categoryRepository.findById(dto.getCId())
                                               .orElseThrow(() -> new EntityNotFoundException(
                                                       "Could not found 'Category' entity by id: " + dto.getCId())));
         post.updateNoticeYn(dto.getNoticeYn());
+        evictPostCache(post.getId());
+        postListGenerationService.bump(beforeCategoryName, post.getCategory().getName());
+        
+        //카테고리 또는 공지글 여부가 변경된 경우 갯수 카운터 이동
+        if (!Objects.equals(post.getCategory().getId(), beforeCategoryId)
+            || !Objects.equals(post.getNoticeYn(), beforeNoticeYn)) {
+            postCountService.adjust(beforeCategoryId, beforeNoticeYn, -1);
+            postCountService.adjust(post.getCategory().getId(), post.getNoticeYn(), 1);
+        }
     }
     
     /**
      * 게시글 삭제
+     * 댓글과 게시글을 일괄 삭제 쿼리로 삭제하여 댓글을 하나씩 로딩/삭제하지 않음
      *
      * @param writerId - 작성자 PK
      * @param id       - 게시글 PK
      */
     @Transactional
     public void delete(final Long writerId, final Long id) {
-        Post post = postRepository.findById(id)
+        Post post = postRepository.findDetailById(id)
                                   .orElseThrow(() -> new EntityNotFoundException("Could not found 'Post' entity by id: " + id));
         
         if (!memberRepository.existsById(writerId))
@@ -209,7 +327,73 @@ public class PostService {
         if (!post.getWriter().getId().equals(writerId))
             throw new InvalidValueException("Not writer of post", ErrorCode.NOT_WRITER_OF_POST);
         
-        postRepository.deleteById(id);
+        deletePosts(Collections.singletonList(post));
+    }
+    
+    /**
+     * 게시글 일괄 삭제(관리자)
+     * BULK_DELETE_SIZE 개씩 나누어 각각의 트랜잭션에서 삭제하며, 존재하지 않는 PK는 무시
+     * 호출한 쪽에서 진행 중인 트랜잭션이 있으면 해당 트랜잭션에서 삭제
+     *
+     * @param ids - 게시글 PK 목록
+     * @return 삭제된 게시글 수
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int deleteAllByIds(final List<Long> ids) {
+        List<Long>          distinctIds         = ids.stream().filter(Objects::nonNull).distinct().collect(toList());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_DELETE_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_DELETE_SIZE, distinctIds.size()));
+            Integer    count = transactionTemplate.execute(status -> deletePosts(postRepository.findForDeletion(chunk)));
+            deleted += count == null ? 0 : count;
+        }
+        return deleted;
+    }
+    
+    /**
+     * 카테고리, 기간에 따른 게시글 일괄 삭제(관리자)
+     * BULK_DELETE_SIZE 개씩 나누어 각각의 트랜잭션에서 삭제
+     * 호출한 쪽에서 진행 중인 트랜잭션이 있으면 해당 트랜잭션에서 삭제
+     *
+     * @param categoryName - 카테고리 명("ALL"인 경우 전체 카테고리)
+     * @param period       - 기간: 숫자 + d(일), w(주), m(월), y(년)
+     * @return 삭제된 게시글 수
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int deleteAllByFilter(final String categoryName, final String period) {
+        Category category = categoryName.equals("ALL") ? null : categoryRepository.findByName(categoryName)
+                                                                                  .orElseThrow(() -> new EntityNotFoundException(
+                                                                                          "Could not found 'Category' entity by name: " + categoryName));
+        //조건이 없으면 전체 게시글이 삭제되므로 카테고리 또는 올바른 기간 중 하나는 반드시 지정
+        if (category == null && (period == null || !period.matches("^[1-9][0-9]*[dwmy]")))
+            throw new InvalidValueException("Category or period is required", ErrorCode.INVALID_INPUT_VALUE);
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        int deleted = 0;
+        int count;
+        do {
+            Integer chunk = transactionTemplate.execute(
+                    status -> deletePosts(postRepository.findForDeletion(category, period, BULK_DELETE_SIZE)));
+            count = chunk == null ? 0 : chunk;
+            deleted += count;
+        } while (count == BULK_DELETE_SIZE);
+        return deleted;
+    }
+    
+    /**
+     * 작성자에 따른 게시글 일괄 삭제(회원 탈퇴)
+     * 작성자의 게시글을 PK 오름차순으로 limit 개까지 삭제
+     *
+     * @param writerId - 작성자 PK
+     * @param limit    - 삭제할 최대 갯수
+     * @return 삭제된 게시글 수
+     */
+    @Transactional
+    public int deleteAllByWriter(final Long writerId, final int limit) {
+        return deletePosts(postRepository.findForDeletionByWriter(writerId, limit));
     }
     
     /**
@@ -219,10 +403,18 @@ public class PostService {
      * @return 게시글 N개 목록
      */
     public List<PostListResponseDto> findTopNViewCountToday(final int total) {
-        return postRepository.findTopNByPeriodAndViewCount(total, "1d")
-                             .stream()
-                             .map(PostListResponseDto::new)
-                             .collect(toList());
+        return findTopNViewCount("1d", total);
+    }
+    
+    /**
+     * 기간 내 작성된 게시글 중 조회수 상위 N개 목록 조회(Redis 순위 버킷)
+     *
+     * @param period - 기간: 1d(어제부터), 1w(최근 1주), 1m(최근 1개월), 1y(최근 1년)
+     * @param total  - 조회할 갯수(N)
+     * @return 게시글 N개 목록
+     */
+    public List<PostListResponseDto> findTopNViewCount(final String period, final int total) {
+        return postRankingService.findTopNViewCount(period, total);
     }
     
     /**
@@ -232,34 +424,136 @@ public class PostService {
      * @return 게시글 N개 목록
      */
     public List<PostListResponseDto> findTopNCommentCountToday(final int total) {
-        return postRepository.findTopNByPeriodAndCommentCount(total, "1d")
-                             .stream()
-                             .map(PostListResponseDto::new)
-                             .collect(toList());
+        return findTopNCommentCount("1d", total);
+    }
+    
+    /**
+     * 기간 내 작성된 게시글 중 댓글 수 상위 N개 목록 조회(Redis 순위 버킷)
+     *
+     * @param period - 기간: 1d(어제부터), 1w(최근 1주), 1m(최근 1개월), 1y(최근 1년)
+     * @param total  - 조회할 갯수(N)
+     * @return 게시글 N개 목록
+     */
+    public List<PostListResponseDto> findTopNCommentCount(final String period, final int total) {
+        return postRankingService.findTopNCommentCount(period, total);
     }
     
     /**
-     * 신규 게시글 N개 목록 조회
+     * 신규 게시글 N개 목록 조회(Redis 순위 버킷)
      *
      * @param total - 조회할 갯수(N)
      * @return 게시글 N개 목록
      */
     public List<PostListResponseDto> findTopNNewPosts(final int total) {
-        return postRepository.findTopNByPeriod(total, null).stream().map(PostListResponseDto::new).collect(toList());
+        return postRankingService.findTopNNewPosts(total);
     }
     
     /**
-     * 게시글 상세 조회 캐싱 여부 확인
+     * 인기 급상승 게시글 N개 목록 조회
+     * 조회, 댓글, 작성 시점에 따라 지수 감쇠된 점수 순
      *
-     * @param id        - 게시글 PK
-     * @param sessionId - 세션 ID
-     * @param ipAddress - IP 주소
-     * @return 캐시 값 존재 여부
+     * @param total - 조회할 갯수(N)
+     * @return 게시글 N개 목록
+     */
+    public List<PostListResponseDto> findTopNTrending(final int total) {
+        return postTrendingService.findTopN(total);
+    }
+    
+    /**
+     * 게시글 댓글 수 보정
+     * 반정규화된 댓글 수가 실제 댓글 수와 다른 게시글만 갱신하고, 트랜잭션이 커밋된 후 보정된 게시글의
+     * 상세 캐시 제거, 목록 캐시 세대 번호 증가, 댓글 수 순위 보정
+     *
+     * @return 보정된 게시글 수
+     */
+    @Scheduled(cron = "${post.comment-count.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public int reconcileCommentCounts() {
+        List<Post> drifted = postRepository.findAllByCommentCountDrift();
+        if (drifted.isEmpty()) return 0;
+        
+        List<Long> ids        = drifted.stream().map(Post::getId).collect(toList());
+        int        reconciled = postRepository.reconcileCommentCounts(ids);
+        
+        for (Post post : postRepository.findAllById(ids)) {
+            Long id = post.getId();
+            postRankingService.updateCommentCount(id, post.getCommentCount());
+            runAfterCommit(() -> evictPostCache(id));
+        }
+        postListGenerationService.bump(drifted.stream()
+                                              .map(post -> post.getCategory().getName())
+                                              .distinct()
+                                              .toArray(String[]::new));
+        log.info("Reconciled comment counts of {} posts", reconciled);
+        return reconciled;
+    }
+    
+    /**
+     * 게시글 삭제
+     * 댓글(게시글 PK 기준)과 게시글을 일괄 삭제 쿼리로 삭제한 뒤 캐시, 카운터, 순위, 검색 색인 갱신
+     *
+     * @param posts - 삭제할 게시글 목록(카테고리 포함)
+     * @return 삭제된 게시글 수
+     */
+    private int deletePosts(final List<Post> posts) {
+        if (posts.isEmpty()) return 0;
+        
+        List<Long> ids = posts.stream().map(Post::getId).collect(toList());
+        commentRepository.bulkDeleteByPostIds(ids);
+        int deleted = postRepository.bulkDeleteByIds(ids);
+        
+        for (Post post : posts) {
+            postViewCountService.discard(post.getId());
+            postCountService.adjust(post.getCategory().getId(), post.getNoticeYn(), -1);
+            postRankingService.removePost(post.getId());
+            postTrendingService.removePost(post.getId());
+            evictPostCache(post.getId());
+        }
+        postListGenerationService.bump(posts.stream()
+                                            .map(post -> post.getCategory().getName())
+                                            .distinct()
+                                            .toArray(String[]::new));
+        postSearchService.remove(ids);
+        return deleted;
+    }
+    
+    /**
+     * 게시글 상세 캐시 제거
+     *
+     * @param id - 게시글 PK
      */
-    private boolean isPostCached(final Long id, final String sessionId, final String ipAddress) {
+    private void evictPostCache(final Long id) {
         Cache postCache = cacheManager.getCache("postCache");
-        if (postCache == null) return false;
-        return postCache.get(id.toString() + "," + sessionId + "," + ipAddress) != null;    //customKeyGenerator
+        if (postCache != null) postCache.evict(id);
+    }
+    
+    /**
+     * 작성자 확인
+     * 탈퇴 처리 중인 계정은 작성한 글이 삭제 대기 중이므로 새로 작성하거나 수정할 수 없음
+     *
+     * @param writerId - 작성자 PK
+     */
+    private void validateWriter(final Long writerId) {
+        Boolean disabled = memberRepository.findDisabledById(writerId)
+                                           .orElseThrow(() -> new EntityNotFoundException(
+                                                   "Could not found 'Member' entity by id: " + writerId));
+        if (Boolean.TRUE.equals(disabled))
+            throw new InvalidValueException("Disabled member", ErrorCode.MEMBER_DISABLED);
+    }
+    
+    /**
+     * 게시글 상세 정보 적재(postCache 미스)
+     * 댓글은 전체 대신 첫 페이지만 포함하고, 이후 페이지는 댓글 목록 커서 기반 조회로 불러옴
+     * 게시글(작성자, 카테고리 포함)과 댓글 첫 페이지(작성자 포함) 각각 한 번의 쿼리로 조회
+     *
+     * @param id - 게시글 PK
+     * @return 게시글 상세 정보
+     */
+    private PostReadResponseDto loadPost(final Long id) {
+        Post post = postRepository.findDetailById(id)
+                                  .orElseThrow(() -> new EntityNotFoundException(
+                                          "Could not found 'Post' entity by id: " + id));
+        return new PostReadResponseDto(post, commentService.findFirstPage(id, COMMENTS_PAGE_SIZE));
     }
     
 }
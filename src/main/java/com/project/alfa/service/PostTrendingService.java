@@ -0,0 +1,135 @@
+package com.project.alfa.service;
+
+import com.project.alfa.repository.PostRepository;
+import com.project.alfa.service.dto.PostListResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 인기 급상승(트렌딩) 게시글
+ * 조회, 댓글, 작성 이벤트가 발생할 때마다 지수 감쇠(exponential decay)된 점수를 Redis Sorted Set에 누적
+ *
+ * 점수 계산(forward decay)
+ * 1. 이벤트 가중치 w, 발생 시각 t, 기준 시각 L, 감쇠율 λ = ln2 / 반감기 일 때 w * e^(λ(t - L))를 누적
+ * 2. 모든 게시글의 점수가 같은 비율 e^(-λ(now - L))로 감쇠되므로, 누적된 점수의 대소 관계가 곧 현재 시점의 순위
+ * 3. 지수 λ(t - L)가 MAX_EXPONENT를 넘으면 전체 점수에 e^(-λ(t - L))를 곱하고 기준 시각을 현재로 옮김(지연 정규화)
+ * 4. 점수가 낮은 게시글은 상위 capacity 개만 남기고 제거하여 크기를 제한
+ */
+@Service
+public class PostTrendingService {
+    
+    private static final String TRENDING_KEY = "post:trending";
+    private static final String LANDMARK_KEY = TRENDING_KEY + ":landmark";
+    private static final double MAX_EXPONENT = 40;    //e^40 ≒ 2.4e17, double 정밀도 내에서 정규화
+    
+    private static final double VIEW_WEIGHT    = 1;
+    private static final double COMMENT_WEIGHT = 3;
+    private static final double POST_WEIGHT    = 5;
+    
+    //감쇠 점수 누적(KEYS: 점수, 기준 시각 / ARGV: 게시글 PK, 가중치, 현재 시각(초), 감쇠율, 최대 지수, 최대 개수)
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[3]) " +
+            "local lambda = tonumber(ARGV[4]) " +
+            "local landmark = tonumber(redis.call('GET', KEYS[2]) or '') " +
+            "if not landmark then " +
+            "  landmark = now " +
+            "  redis.call('SET', KEYS[2], now) " +
+            "end " +
+            "local exponent = lambda * math.max(0, now - landmark) " +
+            "if exponent > tonumber(ARGV[5]) then " +
+            "  redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', string.format('%.17g', math.exp(-exponent))) " +
+            "  redis.call('SET', KEYS[2], now) " +
+            "  exponent = 0 " +
+            "end " +
+            "redis.call('ZINCRBY', KEYS[1], string.format('%.17g', tonumber(ARGV[2]) * math.exp(exponent)), ARGV[1]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[6]) + 1)) " +
+            "return 0", Long.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository      postRepository;
+    private final double              lambda;      //초당 감쇠율
+    private final int                 capacity;    //유지할 최대 게시글 수
+    
+    public PostTrendingService(final StringRedisTemplate stringRedisTemplate,
+                               final PostRepository postRepository,
+                               @Value("${post.trending.half-life:21600}") final long halfLife,
+                               @Value("${post.trending.capacity:1000}") final int capacity) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postRepository = postRepository;
+        this.lambda = Math.log(2) / halfLife;
+        this.capacity = capacity;
+    }
+    
+    /**
+     * 신규 게시글 점수 반영(트랜잭션 커밋 후 반영)
+     * 작성 직후의 게시글이 조회/댓글이 쌓이기 전에도 노출될 수 있도록 초기 점수 부여
+     *
+     * @param postId - 게시글 PK
+     */
+    public void recordPost(final Long postId) {
+        runAfterCommit(() -> record(postId, POST_WEIGHT));
+    }
+    
+    /**
+     * 조회 점수 반영
+     *
+     * @param postId - 게시글 PK
+     */
+    public void recordView(final Long postId) {
+        record(postId, VIEW_WEIGHT);
+    }
+    
+    /**
+     * 댓글 점수 반영(트랜잭션 커밋 후 반영)
+     *
+     * @param postId - 게시글 PK
+     */
+    public void recordComment(final Long postId) {
+        runAfterCommit(() -> record(postId, COMMENT_WEIGHT));
+    }
+    
+    /**
+     * 삭제된 게시글 제거(트랜잭션 커밋 후 반영)
+     *
+     * @param postId - 게시글 PK
+     */
+    public void removePost(final Long postId) {
+        runAfterCommit(() -> stringRedisTemplate.opsForZSet().remove(TRENDING_KEY, postId.toString()));
+    }
+    
+    /**
+     * 인기 급상승 게시글 N개 목록 조회
+     *
+     * @param total - 조회할 갯수(N)
+     * @return 게시글 N개 목록
+     */
+    public List<PostListResponseDto> findTopN(final int total) {
+        Set<String> ids = stringRedisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, Math.min(total, capacity) - 1);
+        if (ids == null || ids.isEmpty()) return Collections.emptyList();
+        return postRepository.findListByIds(ids.stream().map(Long::valueOf).collect(toList()));
+    }
+    
+    private void record(final Long postId, final double weight) {
+        stringRedisTemplate.execute(RECORD_SCRIPT,
+                                    Arrays.asList(TRENDING_KEY, LANDMARK_KEY),
+                                    postId.toString(),
+                                    String.valueOf(weight),
+                                    String.valueOf(Instant.now().getEpochSecond()),
+                                    String.valueOf(lambda),
+                                    String.valueOf(MAX_EXPONENT),
+                                    String.valueOf(capacity));
+    }
+    
+}
@@ -0,0 +1,153 @@
+package com.project.alfa.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게시글 조회수 버퍼
+ * 조회수 증가분을 Redis Hash(게시글 PK -> 증가분)에 원자적으로 누적한 뒤, 주기적으로 DB에 일괄 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+    
+    private static final String PENDING_KEY = "post:view-count:pending";
+    
+    //누적된 증가분을 읽고 비우는 작업을 원자적으로 수행
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<String>> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return entries", (Class<List<String>>) (Class<?>) List.class);
+    
+    private static final String FLUSH_SQL = "update tb_posts set view_count = view_count + ? where post_id = ?";
+    
+    private final StringRedisTemplate        stringRedisTemplate;
+    private final JdbcTemplate               jdbcTemplate;
+    private final CacheManager               cacheManager;
+    private final PlatformTransactionManager transactionManager;
+    
+    /**
+     * 조회수 증가분 누적
+     *
+     * @param postId - 게시글 PK
+     */
+    public void increase(final Long postId) {
+        stringRedisTemplate.opsForHash().increment(PENDING_KEY, postId.toString(), 1L);
+    }
+    
+    /**
+     * DB에 아직 반영되지 않은 조회수 증가분 조회
+     *
+     * @param postId - 게시글 PK
+     * @return 반영 대기 중인 증가분
+     */
+    public long getPendingCount(final Long postId) {
+        Object value = stringRedisTemplate.opsForHash().get(PENDING_KEY, postId.toString());
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+    
+    /**
+     * 반영 대기 중인 조회수 증가분 폐기(게시글 삭제 시)
+     *
+     * @param postId - 게시글 PK
+     */
+    public void discard(final Long postId) {
+        stringRedisTemplate.opsForHash().delete(PENDING_KEY, postId.toString());
+    }
+    
+    /**
+     * 누적된 조회수 증가분을 DB에 일괄 반영
+     * 꺼낸 증가분은 트랜잭션이 커밋되지 않으면(반영 실패, 커밋 실패, 롤백) 다시 Redis에 누적하여 다음 주기에 재시도
+     *
+     * @return 반영된 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:10000}",
+               initialDelayString = "${post.view-count.flush-interval:10000}")
+    public int flush() {
+        List<String> entries = drain();
+        if (entries.isEmpty()) return 0;
+        
+        List<Object[]> batchArgs = new ArrayList<>(entries.size() / 2);
+        for (int i = 0; i < entries.size() - 1; i += 2)
+            batchArgs.add(new Object[]{ Long.parseLong(entries.get(i + 1)), Long.parseLong(entries.get(i)) });
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int completionStatus) {
+                        if (completionStatus == STATUS_COMMITTED) evict(batchArgs);
+                        else restore(batchArgs);
+                    }
+                });
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to flush view counts of {} posts", batchArgs.size(), e);
+            throw e;
+        }
+        return batchArgs.size();
+    }
+    
+    /**
+     * 애플리케이션 종료 시 남은 조회수 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            int flushed = flush();
+            if (flushed > 0) log.info("Flushed view counts of {} posts on shutdown", flushed);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush view counts on shutdown", e);
+        }
+    }
+    
+    /**
+     * 반영되지 않은 증가분을 다시 누적
+     *
+     * @param batchArgs - (증가분, 게시글 PK) 목록
+     */
+    private void restore(final List<Object[]> batchArgs) {
+        log.warn("View counts were not committed, restoring {} pending entries", batchArgs.size());
+        for (Object[] args : batchArgs)
+            stringRedisTemplate.opsForHash().increment(PENDING_KEY, args[1].toString(), (Long) args[0]);
+    }
+    
+    /**
+     * 캐시된 게시글 상세 정보의 조회수는 DB 값 기준이므로 반영된 게시글은 캐시에서 제거
+     *
+     * @param batchArgs - (증가분, 게시글 PK) 목록
+     */
+    private void evict(final List<Object[]> batchArgs) {
+        Cache postCache = cacheManager.getCache("postCache");
+        if (postCache != null) for (Object[] args : batchArgs)
+            postCache.evict(args[1]);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<String> drain() {
+        List<String> entries = stringRedisTemplate.execute(DRAIN_SCRIPT, Collections.singletonList(PENDING_KEY));
+        return entries == null ? Collections.emptyList() : entries;
+    }
+    
+}
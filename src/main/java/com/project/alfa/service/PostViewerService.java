@@ -0,0 +1,57 @@
+package com.project.alfa.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 게시글 조회자 중복 확인
+ * 설정된 기간(window) 단위로 게시글마다 회원은 PK 기반 비트맵, 비회원은 IP 기반 HyperLogLog로 조회 여부를 기록
+ */
+@Service
+public class PostViewerService {
+    
+    private static final String KEY_PREFIX = "post:viewers:";
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long                windowSeconds;
+    
+    public PostViewerService(StringRedisTemplate stringRedisTemplate,
+                             @Value("${post.viewer.window:86400}") long windowSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.windowSeconds = windowSeconds;
+    }
+    
+    /**
+     * 현재 기간 내 첫 조회 여부 확인 및 기록
+     * 회원 PK가 있으면 비트맵(SETBIT), 없으면 IP 주소를 HyperLogLog(PFADD)에 기록
+     * HyperLogLog는 근사 구조이므로 비회원 조회는 드물게 중복으로 판단될 수 있음
+     *
+     * @param postId    - 게시글 PK
+     * @param memberId  - 회원 PK
+     * @param ipAddress - IP 주소
+     * @return 첫 조회 여부
+     */
+    public boolean isNewViewer(final Long postId, final Long memberId, final String ipAddress) {
+        long    bucket = Instant.now().getEpochSecond() / windowSeconds;
+        String  key;
+        boolean isNew;
+        
+        if (memberId != null) {
+            key = KEY_PREFIX + postId + ":m:" + bucket;
+            isNew = !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setBit(key, memberId, true));
+        } else {
+            key = KEY_PREFIX + postId + ":ip:" + bucket;
+            Long changed = stringRedisTemplate.opsForHyperLogLog().add(key, ipAddress);
+            isNew = changed != null && changed > 0;
+        }
+        
+        //기간이 끝나면 키 자체가 만료되도록 설정
+        if (isNew) stringRedisTemplate.expireAt(key, Date.from(Instant.ofEpochSecond((bucket + 1) * windowSeconds)));
+        return isNew;
+    }
+    
+}
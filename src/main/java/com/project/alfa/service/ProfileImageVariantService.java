@@ -0,0 +1,128 @@
+package com.project.alfa.service;
+
+import com.project.alfa.common.util.FileStore;
+import com.project.alfa.common.util.ImageResizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+
+/**
+ * 프로필 사진 크기별 변환
+ * 업로드된 원본을 정해진 크기(VARIANT_SIZES)의 정사각형 JPEG로 변환하여 FileStore에 저장하고,
+ * 조회 시 요청한 크기 이상인 가장 작은 변환 파일을 응답
+ *
+ * 1. 변환은 트랜잭션이 커밋된 후 제한된 스레드 풀에서 실행
+ * 2. 변환 파일이 아직 없으면(변환 중, 스레드 풀 거부 등) 원본으로 응답하고 변환을 다시 요청
+ */
+@Slf4j
+@Service
+public class ProfileImageVariantService {
+    
+    public static final int[] VARIANT_SIZES = { 32, 64, 256 }; //변환 크기(px, 오름차순)
+    
+    private final FileStore   fileStore;
+    private final Executor    imageExecutor;
+    private final Set<String> processing = ConcurrentHashMap.newKeySet();  //변환 중인 원본 파일 경로
+    
+    public ProfileImageVariantService(final FileStore fileStore,
+                                      @Qualifier("imageExecutor") final Executor imageExecutor) {
+        this.fileStore = fileStore;
+        this.imageExecutor = imageExecutor;
+    }
+    
+    /**
+     * 크기별 변환 요청
+     * 트랜잭션이 커밋된 후에 변환을 시작하며, 같은 원본의 변환이 진행 중이면 무시
+     *
+     * @param storeFilePath - 원본 파일 경로
+     */
+    public void generate(final String storeFilePath) {
+        runAfterCommit(() -> submit(storeFilePath));
+    }
+    
+    /**
+     * 응답할 파일 경로 선택
+     * 요청한 크기 이상인 가장 작은 변환 파일, 변환 파일이 없으면 원본
+     *
+     * @param storeFilePath - 원본 파일 경로
+     * @param size          - 요청 크기(px, null인 경우 원본)
+     * @return 파일 경로
+     */
+    public String resolve(final String storeFilePath, final Integer size) {
+        if (size == null) return storeFilePath;
+        
+        for (int variantSize : VARIANT_SIZES) {
+            if (variantSize < size) continue;
+            String variantPath = fileStore.getVariantPath(storeFilePath, variantSize);
+            if (fileStore.loadFile(variantPath) != null) return variantPath;
+            submit(storeFilePath);
+            break;
+        }
+        return storeFilePath;
+    }
+    
+    /**
+     * 크기별 변환 파일 삭제
+     *
+     * @param storeFilePath - 원본 파일 경로
+     */
+    public void deleteVariants(final String storeFilePath) {
+        for (int variantSize : VARIANT_SIZES)
+            fileStore.deleteUploadedFile(fileStore.getVariantPath(storeFilePath, variantSize));
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    private void submit(final String storeFilePath) {
+        if (!processing.add(storeFilePath)) return;
+        try {
+            imageExecutor.execute(() -> {
+                try {
+                    createVariants(storeFilePath);
+                } finally {
+                    processing.remove(storeFilePath);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            //변환 스레드가 부족하면 원본으로 응답하고, 다음 조회 시 다시 요청
+            processing.remove(storeFilePath);
+        }
+    }
+    
+    /**
+     * 원본을 한 번만 디코딩하여 크기별 변환 파일 생성
+     * 같은 내용의 원본은 경로가 같으므로, 변환 파일이 모두 있으면 다시 만들지 않음
+     *
+     * @param storeFilePath - 원본 파일 경로
+     */
+    private void createVariants(final String storeFilePath) {
+        if (Arrays.stream(VARIANT_SIZES)
+                  .allMatch(size -> fileStore.loadFile(fileStore.getVariantPath(storeFilePath, size)) != null)) return;
+        try {
+            BufferedImage source = ImageResizer.read(Paths.get(storeFilePath));
+            if (source == null) {
+                log.warn("Skipping unreadable profile image: {}", storeFilePath);
+                return;
+            }
+            for (int variantSize : VARIANT_SIZES) {
+                Path variantPath = Paths.get(fileStore.getVariantPath(storeFilePath, variantSize));
+                ImageResizer.writeJpeg(ImageResizer.thumbnail(source, variantSize), variantPath);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to create profile image variants: {}", storeFilePath, e);
+        }
+    }
+    
+}
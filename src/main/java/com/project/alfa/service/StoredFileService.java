@@ -0,0 +1,247 @@
+package com.project.alfa.service;
+
+import com.project.alfa.common.error.exception.EntityNotFoundException;
+import com.project.alfa.common.util.FileStore;
+import com.project.alfa.domain.StoredFile;
+import com.project.alfa.domain.UploadFile;
+import com.project.alfa.repository.StoredFileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.project.alfa.common.util.TransactionUtils.runAfterCommit;
+
+/**
+ * 내용 해시 기반 파일 저장
+ * 같은 내용의 파일은 내용 해시 경로(FileStore.getContentPath)에 한 번만 저장하고, 참조 수로 삭제 여부를 판단
+ *
+ * 1. 업로드 파일은 임시 저장 후 내용 해시 행을 잠근 상태에서 내용 해시 경로로 이동(참조 수 0으로 등록)
+ *    처음 업로드된 내용은 짧은 새 트랜잭션에서 행만 추가(동시에 추가되어 유일 제약에 걸리면 무시)한 뒤 다시 잠금
+ * 2. 파일을 사용하는 엔티티는 같은 트랜잭션에서 참조를 추가/해제
+ * 3. 참조가 해제되면 트랜잭션이 커밋된 후 백그라운드에서 삭제하며, 실패하거나 업로드 후 참조되지 않은 파일은 주기적으로 정리
+ * 4. 업로드 후 grace 동안은 참조 수가 0이어도 삭제하지 않음(업로드와 참조 추가 사이에 삭제되지 않도록 보호)
+ */
+@Slf4j
+@Service
+public class StoredFileService {
+    
+    private final StoredFileRepository       storedFileRepository;
+    private final FileStore                  fileStore;
+    private final ProfileImageVariantService profileImageVariantService;
+    private final TransactionTemplate        transactionTemplate;
+    private final TransactionTemplate        insertTemplate;      //내용 해시 행 추가(새 트랜잭션)
+    private final Executor                   fileDeleteExecutor;
+    private final long                       grace;   //업로드 후 삭제하지 않는 시간(초)
+    
+    public StoredFileService(final StoredFileRepository storedFileRepository,
+                             final FileStore fileStore,
+                             final ProfileImageVariantService profileImageVariantService,
+                             final PlatformTransactionManager transactionManager,
+                             @Qualifier("fileDeleteExecutor") final Executor fileDeleteExecutor,
+                             @Value("${file.delete.grace:300}") final long grace) {
+        this.storedFileRepository = storedFileRepository;
+        this.fileStore = fileStore;
+        this.profileImageVariantService = profileImageVariantService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.insertTemplate = new TransactionTemplate(transactionManager);
+        this.insertTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fileDeleteExecutor = fileDeleteExecutor;
+        this.grace = grace;
+    }
+    
+    /**
+     * 파일 저장
+     * 임시 저장(트랜잭션 밖) 후 짧은 트랜잭션에서 내용 해시 경로로 이동하고 참조 수 0으로 등록
+     * 호출한 쪽에서 진행 중인 트랜잭션이 있으면 해당 트랜잭션에서 등록(이미 잡고 있는 행 잠금을 그대로 사용)
+     *
+     * @param multipartFile - 업로드 파일
+     * @return 저장된 파일 정보(파일이 없으면 null)
+     * @throws IOException
+     */
+    public UploadFile store(final MultipartFile multipartFile) throws IOException {
+        UploadFile staged = fileStore.storeFile(multipartFile);
+        if (staged == null) return null;
+        
+        try {
+            String contentHash   = staged.getContentHash();
+            String storeFilePath = register(staged);
+            return new UploadFile(staged.getOriginalFileName(),
+                                  staged.getStoreFileName(),
+                                  storeFilePath,
+                                  staged.getFileSize(),
+                                  contentHash) {};
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(Paths.get(staged.getStoreFilePath()));
+        }
+    }
+    
+    /**
+     * 참조 중인 파일 경로 조회
+     *
+     * @param contentHash - 내용 해시
+     * @return 파일 전체 경로
+     */
+    public String findStoreFilePath(final String contentHash) {
+        return storedFileRepository.findByContentHash(contentHash)
+                                   .filter(storedFile -> storedFile.getRefCount() > 0)
+                                   .map(StoredFile::getStoreFilePath)
+                                   .orElseThrow(() -> new EntityNotFoundException(
+                                           "Could not found 'StoredFile' entity by contentHash: " + contentHash));
+    }
+    
+    /**
+     * 참조 추가
+     * 호출한 쪽의 트랜잭션에서 실행
+     *
+     * @param contentHash - 내용 해시
+     */
+    public void retain(final String contentHash) {
+        storedFileRepository.findByContentHashForUpdate(contentHash)
+                            .orElseThrow(() -> new EntityNotFoundException(
+                                    "Could not found 'StoredFile' entity by contentHash: " + contentHash))
+                            .retain();
+    }
+    
+    /**
+     * 참조 해제
+     * 참조가 없어지면 트랜잭션이 커밋된 후 백그라운드에서 파일과 크기별 변환 파일을 삭제
+     * 내용 해시가 없는 이전 파일은 참조 수 없이 트랜잭션이 커밋된 후 백그라운드에서 삭제
+     *
+     * @param file - 파일 정보
+     */
+    public void release(final UploadFile file) {
+        if (file == null || file.getStoreFilePath() == null) return;
+        
+        String contentHash   = file.getContentHash();
+        String storeFilePath = file.getStoreFilePath();
+        if (contentHash == null) {
+            runAfterCommit(() -> submit(() -> deleteFiles(storeFilePath)));
+            return;
+        }
+        storedFileRepository.findByContentHashForUpdate(contentHash).ifPresent(StoredFile::release);
+        runAfterCommit(() -> submit(() -> purge(contentHash)));
+    }
+    
+    /**
+     * 참조되지 않는 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${file.delete.sweep-interval:600000}",
+               initialDelayString = "${file.delete.sweep-interval:600000}")
+    public void sweep() {
+        storedFileRepository.findUnreferencedHashes(LocalDateTime.now().minusSeconds(grace))
+                            .forEach(contentHash -> submit(() -> purge(contentHash)));
+    }
+    
+    /**
+     * 참조되지 않는 파일 삭제
+     * 삭제 중에는 내용 해시 행을 잠가서 같은 내용의 업로드와 동시에 실행되지 않음
+     *
+     * @param contentHash - 내용 해시
+     * @return 삭제 여부
+     */
+    public boolean purge(final String contentHash) {
+        Boolean purged = transactionTemplate.execute(status -> {
+            StoredFile storedFile = storedFileRepository.findByContentHashForUpdate(contentHash).orElse(null);
+            if (storedFile == null || storedFile.getRefCount() > 0) return false;
+            if (storedFile.getStagedDate().isAfter(LocalDateTime.now().minusSeconds(grace))) return false;
+            
+            deleteFiles(storedFile.getStoreFilePath());
+            storedFileRepository.delete(storedFile);
+            return true;
+        });
+        return Boolean.TRUE.equals(purged);
+    }
+    
+    //==================== 내부 메서드 ====================//
+    
+    /**
+     * 삭제 스레드 풀에 제출
+     * 스레드 풀이 가득 차면 거부되며, 내용 해시 파일은 다음 정리 주기에 다시 삭제
+     *
+     * @param task - 삭제 작업
+     */
+    private void submit(final Runnable task) {
+        try {
+            fileDeleteExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to delete stored file", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Stored file deletion rejected");
+        }
+    }
+    
+    /**
+     * 업로드 파일 등록
+     * 내용 해시 행을 잠그고 내용 해시 경로로 이동한 뒤 업로드 일시 갱신
+     * 행이 없으면 새 트랜잭션에서 추가한 뒤 다시 잠금(없는 행은 호출한 쪽 트랜잭션이 잠그고 있을 수 없음)
+     *
+     * @param staged - 임시 저장된 파일 정보
+     * @return 파일 전체 경로
+     */
+    private String register(final UploadFile staged) {
+        String contentHash = staged.getContentHash();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            String path = transactionTemplate.execute(status -> {
+                StoredFile storedFile = storedFileRepository.findByContentHashForUpdate(contentHash).orElse(null);
+                if (storedFile == null) return null;
+                storedFile.stage();
+                return publish(staged.getStoreFilePath(), contentHash);
+            });
+            if (path != null) return path;
+            insert(contentHash, staged.getFileSize());
+        }
+        throw new IllegalStateException("Could not register stored file: " + contentHash);
+    }
+    
+    /**
+     * 내용 해시 행 추가
+     * 호출한 쪽의 트랜잭션과 분리된 짧은 트랜잭션에서 참조 수 0으로 추가하며,
+     * 같은 내용이 동시에 처음 업로드되어 유일 제약에 걸리면 먼저 추가된 행을 사용
+     *
+     * @param contentHash - 내용 해시
+     * @param fileSize    - 파일 크기
+     */
+    private void insert(final String contentHash, final Long fileSize) {
+        try {
+            insertTemplate.executeWithoutResult(status -> storedFileRepository.saveAndFlush(
+                    new StoredFile(contentHash, fileStore.getContentPath(contentHash), fileSize)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Stored file registered concurrently: {}", contentHash);
+        }
+    }
+    
+    private String publish(final String tempPath, final String contentHash) {
+        try {
+            return fileStore.publish(tempPath, contentHash);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void deleteFiles(final String storeFilePath) {
+        fileStore.deleteUploadedFile(storeFilePath);
+        profileImageVariantService.deleteVariants(storeFilePath);
+    }
+    
+}
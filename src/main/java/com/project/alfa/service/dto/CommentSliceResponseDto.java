@@ -0,0 +1,20 @@
+package com.project.alfa.service.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CommentSliceResponseDto implements Serializable {
+    
+    private final List<CommentResponseDto> content;
+    private final String                   nextCursor; //다음(과거 방향) 페이지 커서
+    
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+    
+}
@@ -0,0 +1,22 @@
+package com.project.alfa.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class DashboardResponseDto implements Serializable {
+    
+    private final List<PostListResponseDto> notices;            //최근 공지글
+    private final List<PostListResponseDto> topViewCount;       //오늘 조회수 상위 게시글
+    private final List<PostListResponseDto> topCommentCount;    //오늘 댓글 수 상위 게시글
+    private final List<PostListResponseDto> newPosts;           //신규 게시글
+    private final List<CommentResponseDto>  newComments;        //신규 댓글
+    @JsonIgnore
+    private final String                    etag;               //응답 내용 해시
+    
+}
@@ -17,7 +17,7 @@ public class MemberResponseDto {
     private final String                    username;
     private final String                    nickname;
     private final String                    signature;
-    private final String                    image64;
+    private final String                    imageKey;
     private final String                    role;
     private final LocalDateTime             createdDate;
     private final LocalDateTime             lastModifiedDate;
@@ -33,7 +33,7 @@ public class MemberResponseDto {
         username = member.getUsername();
         nickname = member.getNickname();
         signature = member.getSignature();
-        image64 = member.getProfileImage() != null ? member.getProfileImage().getBase64Data() : null;
+        imageKey = member.getProfileImage() != null ? member.getProfileImage().getImageKey() : null;
         role = member.getRole().toString();
         createdDate = member.getCreatedDate();
         lastModifiedDate = member.getLastModifiedDate();
@@ -50,7 +50,7 @@ public class MemberResponseDto {
         username = member.getUsername();
         nickname = member.getNickname();
         signature = member.getSignature();
-        image64 = member.getProfileImage() != null ? member.getProfileImage().getBase64Data() : null;
+        imageKey = member.getProfileImage() != null ? member.getProfileImage().getImageKey() : null;
         role = member.getRole().toString();
         createdDate = member.getCreatedDate();
         lastModifiedDate = member.getLastModifiedDate();
@@ -0,0 +1,16 @@
+package com.project.alfa.service.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PostBulkDeleteRequestDto {
+    
+    private List<Long> ids;
+    private String     category;
+    private String     period;
+    
+}
@@ -28,7 +28,28 @@ public class PostListResponseDto implements Serializable {
         viewCount = post.getViewCount();
         createdDate = post.getCreatedDate();
         lastModifiedDate = post.getLastModifiedDate();
-        commentsCount = post.getComments().size();
+        commentsCount = post.getCommentCount();
+    }
+    
+    //Querydsl Projections.constructor 용 생성자
+    public PostListResponseDto(Long id,
+                               String wNickname,
+                               String title,
+                               String categoryName,
+                               Boolean noticeYn,
+                               Integer viewCount,
+                               Integer commentsCount,
+                               LocalDateTime createdDate,
+                               LocalDateTime lastModifiedDate) {
+        this.id = id;
+        this.wNickname = wNickname;
+        this.title = title;
+        this.category = categoryToString(categoryName);
+        this.noticeYn = noticeYn;
+        this.viewCount = viewCount;
+        this.commentsCount = commentsCount;
+        this.createdDate = createdDate;
+        this.lastModifiedDate = lastModifiedDate;
     }
     
     private String categoryToString(String category) {
@@ -1,15 +1,19 @@
 package com.project.alfa.service.dto;
 
 import com.project.alfa.domain.Post;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.With;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
-import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
 
 @Getter
+@AllArgsConstructor(access = PRIVATE)
 public class PostReadResponseDto implements Serializable {
     private final Long                     id;
     private final Long                     wId;
@@ -19,13 +23,24 @@ public class PostReadResponseDto implements Serializable {
     private final Long                     cId;
     private final String                   category;
     private final Boolean                  noticeYn;
+    @With
     private final int                      viewCount;
     private final LocalDateTime            createdDate;
     private final LocalDateTime            lastModifiedDate;
-    private final List<CommentResponseDto> comments;
+    private final List<CommentResponseDto> comments;            //댓글 첫 페이지
+    private final String                   commentsNextCursor;  //댓글 다음 페이지 커서
     private final int                      commentsCount;
     
+    /**
+     * 댓글 없이 게시글 정보만 변환(나의 활동 목록 등)
+     *
+     * @param post - 게시글
+     */
     public PostReadResponseDto(Post post) {
+        this(post, new CommentSliceResponseDto(Collections.emptyList(), null));
+    }
+    
+    public PostReadResponseDto(Post post, CommentSliceResponseDto firstComments) {
         id = post.getId();
         wId = post.getWriter().getId();
         wNickname = post.getWriter().getNickname();
@@ -37,8 +52,9 @@ public class PostReadResponseDto implements Serializable {
         viewCount = post.getViewCount();
         createdDate = post.getCreatedDate();
         lastModifiedDate = post.getLastModifiedDate();
-        comments = post.getComments().stream().map(CommentResponseDto::new).collect(toList());
-        commentsCount = post.getComments().size();
+        comments = firstComments.getContent();
+        commentsNextCursor = firstComments.getNextCursor();
+        commentsCount = post.getCommentCount();
     }
     
     private String categoryToString(String category) {
@@ -0,0 +1,25 @@
+package com.project.alfa.service.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class PostSliceResponseDto implements Serializable {
+    
+    private final List<PostListResponseDto> content;
+    private final String                    prevCursor; //이전(최신 방향) 페이지 커서
+    private final String                    nextCursor; //다음(과거 방향) 페이지 커서
+    
+    public boolean hasPrev() {
+        return prevCursor != null;
+    }
+    
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+    
+}
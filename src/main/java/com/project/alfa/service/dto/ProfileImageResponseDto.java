@@ -0,0 +1,19 @@
+package com.project.alfa.service.dto;
+
+import com.project.alfa.domain.ProfileImage;
+import lombok.Getter;
+
+@Getter
+public class ProfileImageResponseDto {
+    
+    private final String originalFileName;
+    private final String storeFilePath;
+    private final String imageKey;
+    
+    public ProfileImageResponseDto(ProfileImage profileImage) {
+        originalFileName = profileImage.getOriginalFileName();
+        storeFilePath = profileImage.getStoreFilePath();
+        imageKey = profileImage.getImageKey();
+    }
+    
+}
@@ -0,0 +1,170 @@
+package com.project.alfa.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class TwoLevelCacheTest {
+    
+    @Autowired
+    TwoLevelCacheManager cacheManager;
+    @Autowired
+    StringRedisTemplate  stringRedisTemplate;
+    
+    @Test
+    public void L1적중() {
+        //given
+        String name  = "test-" + UUID.randomUUID();
+        Cache  cache = cacheManager.getCache(name);
+        cache.put(1L, "value");
+        TwoLevelCache twoLevelCache = cacheManager.getTwoLevelCaches().get(name);
+        
+        //when
+        Cache.ValueWrapper cached = cache.get(1L);
+        
+        //then
+        assertNotNull("Cached", cached);
+        assertEquals("Cached value", "value", cached.get());
+        assertEquals("L1 hit", 1, twoLevelCache.getL1Stats().hitCount());
+        assertEquals("L2 not accessed", 0, twoLevelCache.getL2HitCount() + twoLevelCache.getL2MissCount());
+        
+        cache.clear();
+    }
+    
+    @Test
+    public void L2적중() {
+        //given
+        String name  = "test-" + UUID.randomUUID();
+        Cache  cache = cacheManager.getCache(name);
+        cache.put(1L, "value");
+        TwoLevelCache twoLevelCache = cacheManager.getTwoLevelCaches().get(name);
+        
+        //when
+        twoLevelCache.evictLocal("1");
+        Cache.ValueWrapper first  = cache.get(1L);
+        Cache.ValueWrapper second = cache.get(1L);
+        
+        //then
+        assertEquals("Cached value", "value", first.get());
+        assertEquals("Cached value", "value", second.get());
+        assertEquals("L2 hit once", 1, twoLevelCache.getL2HitCount());
+        assertEquals("L1 reloaded from L2", 1, twoLevelCache.getL1Stats().hitCount());
+        
+        cache.clear();
+    }
+    
+    @Test
+    public void 다른서버변경전파() {
+        //given
+        String name  = "test-" + UUID.randomUUID();
+        Cache  cache = cacheManager.getCache(name);
+        cache.put(1L, "value");
+        cache.put(2L, "value");
+        TwoLevelCache twoLevelCache = cacheManager.getTwoLevelCaches().get(name);
+        
+        //when
+        cacheManager.onMessage(message("other-node|" + name + "|E|1"), null);
+        cache.get(1L);
+        cache.get(2L);
+        
+        //then
+        assertEquals("Evicted key loaded from L2", 1, twoLevelCache.getL2HitCount());
+        assertEquals("Other key served from L1", 1, twoLevelCache.getL1Stats().hitCount());
+        
+        //when
+        cacheManager.onMessage(message("other-node|" + name + "|C"), null);
+        cache.get(2L);
+        
+        //then
+        assertEquals("Cleared key loaded from L2", 2, twoLevelCache.getL2HitCount());
+        
+        cache.clear();
+    }
+    
+    @Test
+    public void 동시적재_한번만실행() throws Exception {
+        //given
+        String          name     = "test-" + UUID.randomUUID();
+        Cache           cache    = cacheManager.getCache(name);
+        AtomicInteger   loads    = new AtomicInteger();
+        CountDownLatch  start    = new CountDownLatch(1);
+        int             threads  = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        //when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++)
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(200);
+                    return "value";
+                });
+            }));
+        start.countDown();
+        
+        //then
+        for (Future<String> result : results) assertEquals("Loaded value", "value", result.get());
+        assertEquals("Loaded once", 1, loads.get());
+        
+        executor.shutdown();
+        cache.clear();
+    }
+    
+    @Test
+    public void 만료된값_응답후갱신() {
+        //given
+        String        name  = "test-" + UUID.randomUUID();
+        TwoLevelCache cache = new TwoLevelCache(name,
+                                                Caffeine.newBuilder().build(),
+                                                new ConcurrentMapCache(name),
+                                                (cacheName, key) -> {},
+                                                new CacheLoadLock(stringRedisTemplate, Duration.ofSeconds(5)),
+                                                Duration.ZERO,
+                                                Runnable::run);
+        cache.put(1L, "old");
+        AtomicInteger loads = new AtomicInteger();
+        
+        //when
+        String value = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "new";
+        });
+        
+        //then
+        assertEquals("Stale value served", "old", value);
+        assertEquals("Refreshed once", 1, loads.get());
+        assertEquals("Refreshed value", "new", cache.get(1L).get());
+    }
+    
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                                  body.getBytes(StandardCharsets.UTF_8));
+    }
+    
+}
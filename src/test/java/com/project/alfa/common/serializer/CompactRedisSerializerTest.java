@@ -0,0 +1,181 @@
+package com.project.alfa.common.serializer;
+
+import com.project.alfa.domain.Category;
+import com.project.alfa.domain.Comment;
+import com.project.alfa.domain.EmailAuth;
+import com.project.alfa.domain.Member;
+import com.project.alfa.domain.Post;
+import com.project.alfa.service.dto.CommentResponseDto;
+import com.project.alfa.service.dto.CommentSliceResponseDto;
+import com.project.alfa.service.dto.PostListResponseDto;
+import com.project.alfa.service.dto.PostReadResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+@Slf4j
+public class CompactRedisSerializerTest {
+    
+    private static final int WARMUP     = 2000;
+    private static final int ITERATIONS = 10000;
+    
+    ClassLoader                     classLoader   = getClass().getClassLoader();
+    CompactRedisSerializer          compact       = new CompactRedisSerializer(classLoader, 1024);
+    JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer(classLoader);
+    
+    @Test
+    public void 게시글상세_직렬화() {
+        //given
+        PostReadResponseDto post = createPostRead(1L, 30);
+        
+        //when
+        PostReadResponseDto result = (PostReadResponseDto) compact.deserialize(compact.serialize(post));
+        
+        //then
+        assertEquals("Id", post.getId(), result.getId());
+        assertEquals("Title", post.getTitle(), result.getTitle());
+        assertEquals("CreatedDate", post.getCreatedDate(), result.getCreatedDate());
+        assertEquals("Comments", post.getComments().size(), result.getComments().size());
+        assertEquals("Comment content",
+                     post.getComments().get(29).getContent(),
+                     result.getComments().get(29).getContent());
+    }
+    
+    @Test
+    public void 게시글목록_직렬화() {
+        //given
+        Page<PostListResponseDto> page = createPage(20);
+        
+        //when
+        @SuppressWarnings("unchecked")
+        Page<PostListResponseDto> result = (Page<PostListResponseDto>) compact.deserialize(compact.serialize(page));
+        
+        //then
+        assertEquals("TotalElements", page.getTotalElements(), result.getTotalElements());
+        assertEquals("Content", page.getContent().size(), result.getContent().size());
+        assertEquals("Sort", page.getSort(), result.getSort());
+        assertEquals("Title", page.getContent().get(0).getTitle(), result.getContent().get(0).getTitle());
+    }
+    
+    @Test
+    public void 이전형식_호환() {
+        //given
+        PostReadResponseDto post = createPostRead(1L, 3);
+        
+        byte[] legacy = jdkSerializer.serialize(post);
+        byte[] future = compact.serialize(post);
+        future[1]++;    //이후 버전에서 저장된 값
+        
+        //when
+        PostReadResponseDto fromLegacy = (PostReadResponseDto) compact.deserialize(legacy);
+        Object              fromFuture = compact.deserialize(future);
+        
+        //then
+        assertEquals("Legacy JDK value readable", post.getTitle(), fromLegacy.getTitle());
+        assertNull("Newer version treated as miss", fromFuture);
+    }
+    
+    @Test
+    public void 직렬화_벤치마크() {
+        //given
+        PostReadResponseDto       post = createPostRead(1L, 30);
+        Page<PostListResponseDto> page = createPage(20);
+        
+        //when
+        int[] postSizes = { jdkSerializer.serialize(post).length, compact.serialize(post).length };
+        int[] pageSizes = { jdkSerializer.serialize(page).length, compact.serialize(page).length };
+        
+        benchmark("PostReadResponseDto", "jdk", jdkSerializer, post);
+        benchmark("PostReadResponseDto", "compact", compact, post);
+        benchmark("Page<PostListResponseDto>", "jdk", jdkSerializer, page);
+        benchmark("Page<PostListResponseDto>", "compact", compact, page);
+        
+        log.info("PostReadResponseDto size: jdk={} bytes, compact={} bytes", postSizes[0], postSizes[1]);
+        log.info("Page<PostListResponseDto> size: jdk={} bytes, compact={} bytes", pageSizes[0], pageSizes[1]);
+        
+        //then
+        assertTrue("Compact post smaller", postSizes[1] < postSizes[0]);
+        assertTrue("Compact page smaller", pageSizes[1] < pageSizes[0]);
+    }
+    
+    private void benchmark(String type, String name, RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+        for (int i = 0; i < WARMUP; i++) serializer.deserialize(serializer.serialize(value));
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) bytes = serializer.serialize(value);
+        long serialized = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) serializer.deserialize(bytes);
+        long deserialized = System.nanoTime();
+        
+        log.info("{} {}: serialize={} us/op, deserialize={} us/op",
+                 type,
+                 name,
+                 String.format("%.2f", (serialized - start) / 1000.0 / ITERATIONS),
+                 String.format("%.2f", (deserialized - serialized) / 1000.0 / ITERATIONS));
+    }
+    
+    private Post createPost(Long id, int commentCount) {
+        Member writer = Member.builder()
+                              .username("user@mail.com")
+                              .password("User12!@")
+                              .emailAuth(EmailAuth.builder().authToken(UUID.randomUUID().toString()).build())
+                              .nickname("사용자")
+                              .build();
+        ReflectionTestUtils.setField(writer, "id", 1L);
+        Category category = Category.builder().name("FREE").build();
+        ReflectionTestUtils.setField(category, "id", 1L);
+        
+        Post post = Post.builder()
+                        .writer(writer)
+                        .title("게시글 제목 " + id)
+                        .content("게시글 내용 " + id + " - 캐시 직렬화 크기 비교를 위한 본문입니다.")
+                        .category(category)
+                        .noticeYn(false)
+                        .build();
+        setBase(post, id);
+        
+        for (long i = 1; i <= commentCount; i++) {
+            Comment comment = Comment.builder().writer(writer).post(post).content("댓글 내용 " + i).build();
+            setBase(comment, i);
+        }
+        return post;
+    }
+    
+    private PostReadResponseDto createPostRead(Long id, int commentCount) {
+        Post post = createPost(id, commentCount);
+        return new PostReadResponseDto(post,
+                                       new CommentSliceResponseDto(post.getComments()
+                                                                       .stream()
+                                                                       .map(CommentResponseDto::new)
+                                                                       .collect(toList()), null));
+    }
+    
+    private Page<PostListResponseDto> createPage(int size) {
+        List<PostListResponseDto> content = new ArrayList<>();
+        for (long i = 1; i <= size; i++) content.add(new PostListResponseDto(createPost(i, 0)));
+        return new PageImpl<>(content, PageRequest.of(0, size, Sort.by("createdDate").descending()), 100);
+    }
+    
+    private void setBase(Object entity, Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdDate", now);
+        ReflectionTestUtils.setField(entity, "lastModifiedDate", now);
+    }
+    
+}
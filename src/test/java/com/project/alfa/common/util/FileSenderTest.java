@@ -0,0 +1,190 @@
+package com.project.alfa.common.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class FileSenderTest {
+    
+    private static final String CONTENT = "0123456789";
+    private static final String ETAG    = "hash";
+    
+    FileSender fileSender = new FileSender(2);
+    Path       path;
+    
+    @Before
+    public void setup() throws Exception {
+        path = Files.createTempFile("file-sender", ".txt");
+        Files.write(path, CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @After
+    public void clear() throws Exception {
+        Files.deleteIfExists(path);
+    }
+    
+    @Test
+    public void 전체응답() throws Exception {
+        //given
+        MockHttpServletRequest  request  = new MockHttpServletRequest("GET", "/files/hash");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 200, response.getStatus());
+        assertEquals("Body", CONTENT, response.getContentAsString());
+        assertEquals("Content-Length", "10", response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("ETag", "\"hash\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("Accept-Ranges", "bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertNotNull("Last-Modified", response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+    
+    @Test
+    public void 조건부요청_변경없음() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/hash");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"hash\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 304, response.getStatus());
+        assertEquals("Body", 0, response.getContentAsByteArray().length);
+    }
+    
+    @Test
+    public void 구간요청() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/hash");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 206, response.getStatus());
+        assertEquals("Body", "2345", response.getContentAsString());
+        assertEquals("Content-Range", "bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("Content-Length", "4", response.getHeader(HttpHeaders.CONTENT_LENGTH));
+    }
+    
+    @Test
+    public void 구간요청_마지막구간() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/hash");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"hash\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 206, response.getStatus());
+        assertEquals("Body", "789", response.getContentAsString());
+    }
+    
+    @Test
+    public void 구간요청_IfRange불일치() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/hash");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 200, response.getStatus());
+        assertEquals("Body", CONTENT, response.getContentAsString());
+    }
+    
+    @Test
+    public void 구간요청_범위초과() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/hash");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 416, response.getStatus());
+        assertEquals("Content-Range", "bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+    
+    @Test
+    public void 구간요청_시작위치가파일크기() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/hash");
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 416, response.getStatus());
+        assertEquals("Content-Range", "bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("Body", 0, response.getContentAsByteArray().length);
+    }
+    
+    @Test
+    public void sendfile지원() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/hash");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 206, response.getStatus());
+        assertEquals("Body written by container", 0, response.getContentAsByteArray().length);
+        assertEquals("Filename",
+                     path.toAbsolutePath().toString(),
+                     request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals("Start", 2L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals("End(exclusive)", 6L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+    
+    @Test
+    public void 동시전송제한() throws Exception {
+        //given
+        fileSender = new FileSender(0);
+        MockHttpServletRequest  request  = new MockHttpServletRequest("GET", "/files/hash");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        //when
+        send(request, response);
+        
+        //then
+        assertEquals("Status", 503, response.getStatus());
+        assertEquals("Retry-After", "1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+    
+    private void send(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        fileSender.send(request, response, path, ETAG, MediaType.TEXT_PLAIN, CacheControl.noCache());
+    }
+    
+}
@@ -0,0 +1,36 @@
+package com.project.alfa.config;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * 실행된 SQL 문 수 측정(P6Spy)
+ * start()를 호출한 스레드에서 실행된 문만 세므로, 스케줄러 등 다른 스레드의 쿼리는 포함되지 않음
+ */
+@Profile("test")
+@Component
+public class QueryCounter extends SimpleJdbcEventListener {
+    
+    private final ThreadLocal<Integer> count = new ThreadLocal<>();
+    
+    public void start() {
+        count.set(0);
+    }
+    
+    public int stop() {
+        Integer executed = count.get();
+        count.remove();
+        return executed == null ? 0 : executed;
+    }
+    
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        Integer executed = count.get();
+        if (executed != null) count.set(executed + 1);
+    }
+    
+}
@@ -0,0 +1,69 @@
+package com.project.alfa.controller;
+
+import com.project.alfa.service.DashboardService;
+import com.project.alfa.service.MemberService;
+import com.project.alfa.service.dto.DashboardResponseDto;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class HomeControllerTest {
+    
+    MockMvc          mockMvc;
+    DashboardService dashboardService;
+    
+    @Before
+    public void setup() {
+        dashboardService = mock(DashboardService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new HomeController(mock(MemberService.class), dashboardService))
+                                 .build();
+        
+        DashboardResponseDto dashboard = new DashboardResponseDto(Collections.emptyList(),
+                                                                  Collections.emptyList(),
+                                                                  Collections.emptyList(),
+                                                                  Collections.emptyList(),
+                                                                  Collections.emptyList(),
+                                                                  "etag");
+        when(dashboardService.getDashboard()).thenReturn(CompletableFuture.completedFuture(dashboard));
+    }
+    
+    @Test
+    public void 대시보드조회() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get("/dashboard")).andExpect(request().asyncStarted()).andReturn();
+        
+        //then
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+               .andExpect(jsonPath("$.notices").isArray())
+               .andExpect(jsonPath("$.etag").doesNotExist());
+    }
+    
+    @Test
+    public void 대시보드조회_ETag일치() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get("/dashboard").header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+        
+        //then
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+               .andExpect(content().string(""));
+    }
+    
+}
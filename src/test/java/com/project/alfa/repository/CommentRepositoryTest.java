@@ -188,6 +188,40 @@ public class CommentRepositoryTest {
         assertEquals("The size of content must be 10", 10, content.size());
     }
     
+    @Test
+    public void 커서로목록조회() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        em.persist(writer);
+        em.persist(category);
+        
+        Post post = createPost(writer, "게시글 제목", "게시글 내용", category, false);
+        em.persist(post);
+        
+        List<Comment> comments = createComments(Collections.singletonList(writer), post, 25);
+        
+        //when
+        List<Comment> first = commentRepository.findListByCursor(post.getId(), null, null, 10);
+        Comment       last  = first.get(first.size() - 1);
+        List<Comment> next  = commentRepository.findListByCursor(post.getId(), last.getCreatedDate(), last.getId(), 20);
+        
+        //then
+        List<Long> expected = comments.stream()
+                                      .sorted(Comparator.comparing(Comment::getCreatedDate)
+                                                        .thenComparing(Comment::getId)
+                                                        .reversed())
+                                      .map(Comment::getId)
+                                      .collect(toList());
+        List<Long> actual = new ArrayList<>();
+        first.forEach(comment -> actual.add(comment.getId()));
+        next.forEach(comment -> actual.add(comment.getId()));
+        
+        assertEquals("The size of first page must be 10", 10, first.size());
+        assertEquals("The size of next page must be 15", 15, next.size());
+        assertEquals("Pages must be ordered by createdDate, id desc", expected, actual);
+    }
+    
     @Test
     public void 기간및갯수로목록조회() {
         //given
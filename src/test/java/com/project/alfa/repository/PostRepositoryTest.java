@@ -4,12 +4,14 @@ import com.project.alfa.domain.Category;
 import com.project.alfa.domain.EmailAuth;
 import com.project.alfa.domain.Member;
 import com.project.alfa.domain.Post;
+import com.project.alfa.service.dto.PostListResponseDto;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -20,6 +22,7 @@ import javax.persistence.PersistenceContext;
 import java.util.*;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.junit.Assert.*;
 
 @Slf4j
@@ -131,6 +134,30 @@ public class PostRepositoryTest {
         assertFalse("post does not exist", exists);
     }
     
+    @Test
+    public void PK로카테고리이름조회() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        
+        em.persist(writer);
+        em.persist(category);
+        clear();
+        
+        Post post = createPost(writer, "게시글 제목", "게시글 내용", category, false);
+        em.persist(post);
+        Long id = post.getId();
+        clear();
+        
+        //when
+        Optional<String> categoryName = postRepository.findCategoryNameById(id);
+        Optional<String> notFound     = postRepository.findCategoryNameById(new Random().nextLong());
+        
+        //then
+        assertEquals("Category name same", "분류", categoryName.orElse(null));
+        assertFalse("Category name is empty", notFound.isPresent());
+    }
+    
     @Test
     public void 수정() {
         //given
@@ -199,7 +226,7 @@ public class PostRepositoryTest {
     }
     
     @Test
-    public void findAllByNoticeYnOrderByCreatedDateDesc() {
+    public void findListByNoticeYn() {
         //given
         List<Member>   writers    = new ArrayList<>();
         List<Category> categories = new ArrayList<>();
@@ -221,16 +248,25 @@ public class PostRepositoryTest {
         List<Post> posts = createPosts(writers, categories, 100, false);
         
         //when
-        List<Post> content = postRepository.findAllByNoticeYnOrderByCreatedDateDesc(false, PageRequest.of(0, 10))
-                                           .getContent();
+        Page<PostListResponseDto> page = postRepository.findListByNoticeYn(false, PageRequest.of(0, 10));
         
         //then
-        assertTrue("posts should include content", posts.containsAll(content));
-        assertEquals("The size of content must be 10", 10, content.size());
+        Map<Long, Post> postMap = posts.stream().collect(toMap(Post::getId, post -> post));
+        
+        assertEquals("The size of content must be 10", 10, page.getContent().size());
+        assertEquals("Total elements same", 100, page.getTotalElements());
+        for (PostListResponseDto dto : page.getContent()) {
+            Post post = postMap.get(dto.getId());
+            assertNotNull("posts should include content", post);
+            assertEquals("Writer same", post.getWriter().getNickname(), dto.getWNickname());
+            assertEquals("Title same", post.getTitle(), dto.getTitle());
+            assertEquals("ViewCount same", post.getViewCount(), dto.getViewCount());
+            assertEquals("CommentCount same", post.getCommentCount(), dto.getCommentsCount());
+        }
     }
     
     @Test
-    public void findAllByCategoryAndNoticeYnOrderByCreatedDateDesc() {
+    public void findListByCategoryAndNoticeYn() {
         //given
         List<Member>   writers    = new ArrayList<>();
         List<Category> categories = new ArrayList<>();
@@ -254,18 +290,22 @@ public class PostRepositoryTest {
         Category category = categories.get(new Random().nextInt(categories.size() - 1));
         
         //when
-        List<Post> content = postRepository.findAllByCategoryAndNoticeYnOrderByCreatedDateDesc(category,
-                                                                                               false,
-                                                                                               PageRequest.of(0, 10))
-                                           .getContent();
+        List<PostListResponseDto> content = postRepository.findListByCategoryAndNoticeYn(category,
+                                                                                         false,
+                                                                                         PageRequest.of(0, 10))
+                                                          .getContent();
         
         //then
-        List<Post> eqCategory = posts.stream().filter(post -> post.getCategory() == category).collect(toList());
-        List<Post> neCategory = posts.stream().filter(post -> post.getCategory() != category).collect(toList());
-        
-        assertTrue("eqCategory should include content", eqCategory.containsAll(content));
-        assertFalse("If category is not equal, content is not included in neCategory", neCategory.containsAll(content));
-        assertTrue("The size of content must be less than or equal to 10", content.size() <= 10);
+        List<Long> eqCategory = posts.stream()
+                                     .filter(post -> post.getCategory() == category)
+                                     .map(Post::getId)
+                                     .collect(toList());
+        
+        assertTrue("eqCategory should include content",
+                   eqCategory.containsAll(content.stream().map(PostListResponseDto::getId).collect(toList())));
+        assertEquals("The size of content must be at most 10",
+                     Math.min(10, eqCategory.size()),
+                     content.size());
     }
     
     @Test
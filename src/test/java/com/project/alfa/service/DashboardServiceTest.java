@@ -0,0 +1,100 @@
+package com.project.alfa.service;
+
+import com.project.alfa.service.dto.DashboardResponseDto;
+import com.project.alfa.service.dto.PostListResponseDto;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class DashboardServiceTest {
+    
+    DashboardService dashboardService;
+    PostService      postService;
+    CommentService   commentService;
+    CacheManager     cacheManager;
+    
+    @Before
+    public void setup() {
+        postService = mock(PostService.class);
+        commentService = mock(CommentService.class);
+        cacheManager = new ConcurrentMapCacheManager("dashboard");
+        dashboardService = new DashboardService(postService, commentService, cacheManager, Runnable::run);
+    }
+    
+    @Test
+    public void 대시보드조회() {
+        //given
+        List<PostListResponseDto> notices  = createPosts(1L, "공지");
+        List<PostListResponseDto> newPosts = createPosts(2L, "신규");
+        
+        when(postService.findTopNNotice(anyString(), anyInt())).thenReturn(notices);
+        when(postService.findTopNViewCountToday(anyInt())).thenReturn(Collections.emptyList());
+        when(postService.findTopNCommentCountToday(anyInt())).thenReturn(Collections.emptyList());
+        when(postService.findTopNNewPosts(anyInt())).thenReturn(newPosts);
+        when(commentService.findTopNNewComments(anyInt())).thenReturn(Collections.emptyList());
+        
+        //when
+        DashboardResponseDto dashboard = dashboardService.getDashboard().join();
+        DashboardResponseDto cached    = dashboardService.getDashboard().join();
+        
+        //then
+        assertEquals("Notices loaded", notices, dashboard.getNotices());
+        assertEquals("New posts loaded", newPosts, dashboard.getNewPosts());
+        assertTrue("Top view count loaded", dashboard.getTopViewCount().isEmpty());
+        assertNotNull("ETag exists", dashboard.getEtag());
+        
+        Cache.ValueWrapper wrapper = cacheManager.getCache("dashboard").get("home");
+        assertNotNull("Dashboard must be cached", wrapper);
+        assertSame("Cached dashboard returned", dashboard, cached);
+        verify(postService, times(1)).findTopNNotice(anyString(), anyInt());
+        verify(commentService, times(1)).findTopNNewComments(anyInt());
+    }
+    
+    @Test
+    public void 대시보드조회_위젯조회실패() {
+        //given
+        List<PostListResponseDto> notices = createPosts(1L, "공지");
+        
+        when(postService.findTopNNotice(anyString(), anyInt())).thenReturn(notices);
+        when(postService.findTopNViewCountToday(anyInt())).thenThrow(new IllegalStateException("view count"));
+        when(postService.findTopNCommentCountToday(anyInt())).thenReturn(Collections.emptyList());
+        when(postService.findTopNNewPosts(anyInt())).thenReturn(Collections.emptyList());
+        when(commentService.findTopNNewComments(anyInt())).thenReturn(Collections.emptyList());
+        
+        //when
+        DashboardResponseDto dashboard = dashboardService.getDashboard().join();
+        dashboardService.getDashboard().join();
+        
+        //then
+        assertEquals("Other widgets loaded", notices, dashboard.getNotices());
+        assertNotNull("Failed widget must not be null", dashboard.getTopViewCount());
+        assertTrue("Failed widget must be empty", dashboard.getTopViewCount().isEmpty());
+        
+        assertNull("Partial dashboard must not be cached", cacheManager.getCache("dashboard").get("home"));
+        verify(postService, times(2)).findTopNNotice(anyString(), anyInt());
+    }
+    
+    private List<PostListResponseDto> createPosts(Long id, String title) {
+        return Collections.singletonList(new PostListResponseDto(id,
+                                                                 "사용자",
+                                                                 title,
+                                                                 "분류",
+                                                                 false,
+                                                                 0,
+                                                                 0,
+                                                                 LocalDateTime.now(),
+                                                                 LocalDateTime.now()));
+    }
+    
+}
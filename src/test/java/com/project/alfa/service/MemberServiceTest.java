@@ -4,14 +4,14 @@ import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.InvalidValueException;
 import com.project.alfa.common.util.EmailSender;
 import com.project.alfa.common.util.FileStore;
-import com.project.alfa.domain.EmailAuth;
-import com.project.alfa.domain.Member;
-import com.project.alfa.domain.ProfileImage;
+import com.project.alfa.domain.*;
+import com.project.alfa.repository.MemberPurgeJobRepository;
 import com.project.alfa.repository.MemberRepository;
 import com.project.alfa.service.dto.MemberEmailAuthRequestDto;
 import com.project.alfa.service.dto.MemberJoinRequestDto;
 import com.project.alfa.service.dto.MemberResponseDto;
 import com.project.alfa.service.dto.MemberUpdateRequestDto;
+import com.project.alfa.service.dto.ProfileImageResponseDto;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.After;
 import org.junit.Test;
@@ -25,9 +25,18 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,17 +50,23 @@ import static org.junit.Assert.*;
 public class MemberServiceTest {
     
     @Autowired
-    MemberService    memberService;
+    MemberService            memberService;
     @Autowired
-    EmailSender      emailSender;
+    MemberPurgeService       memberPurgeService;
     @Autowired
-    PasswordEncoder  passwordEncoder;
+    EmailSender              emailSender;
     @Autowired
-    FileStore        fileStore;
+    PasswordEncoder          passwordEncoder;
     @Autowired
-    MemberRepository memberRepository;
+    FileStore                fileStore;
+    @Autowired
+    MemberRepository         memberRepository;
+    @Autowired
+    MemberPurgeJobRepository memberPurgeJobRepository;
+    @Autowired
+    StoredFileService        storedFileService;
     @PersistenceContext
-    EntityManager    em;
+    EntityManager            em;
     
     @After
     public void clear() {
@@ -279,6 +294,147 @@ public class MemberServiceTest {
         assertEquals("Nickname changed", findMember.getNickname(), dto.getNickname());
     }
     
+    @Test
+    public void 회원정보수정_프로필사진() throws Exception {
+        //given
+        Member member = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자", true);
+        em.persist(member);
+        ProfileImage profileImage = ProfileImage.builder().build();
+        em.persist(profileImage);
+        member.updateProfileImage(profileImage);
+        Long   id    = member.getId();
+        byte[] bytes = createImage(300, 200);
+        MemberUpdateRequestDto dto = createUpdateRequestDto(id,
+                                                            "User12!@",
+                                                            "사용자",
+                                                            null,
+                                                            null,
+                                                            null,
+                                                            new MockMultipartFile("image", "profile.png", "image/png", bytes));
+        clear();
+        
+        //when
+        memberService.update(dto, false);
+        clear();
+        ProfileImageResponseDto image = memberService.findProfileImage(id);
+        fileStore.deleteUploadedFile(image.getStoreFilePath());
+        
+        //then
+        String hash = String.format("%064x", new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(bytes)));
+        
+        assertEquals("Image key is content hash", hash, image.getImageKey());
+        assertEquals("Member image key", hash, memberService.findByUsername("user@mail.com").getImageKey());
+    }
+    
+    @Test
+    public void 회원정보수정_프로필사진_중복저장() throws Exception {
+        //given
+        Member member = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자", true);
+        Member other  = createMember("other@mail.com", "Other12!@", UUID.randomUUID().toString(), "다른사용자", true);
+        em.persist(member);
+        em.persist(other);
+        for (Member m : Arrays.asList(member, other)) {
+            ProfileImage profileImage = ProfileImage.builder().build();
+            em.persist(profileImage);
+            m.updateProfileImage(profileImage);
+        }
+        Long   id      = member.getId();
+        Long   otherId = other.getId();
+        byte[] bytes   = createImage(300, 200);
+        clear();
+        
+        //when
+        memberService.update(createUpdateRequestDto(id, "User12!@", "사용자", null, null, null,
+                                                    new MockMultipartFile("image", "profile.png", "image/png", bytes)),
+                             false);
+        memberService.update(createUpdateRequestDto(otherId, "Other12!@", "다른사용자", null, null, null,
+                                                    new MockMultipartFile("image", "other.png", "image/png", bytes)),
+                             false);
+        clear();
+        String     path       = memberService.findProfileImage(id).getStoreFilePath();
+        StoredFile storedFile = findStoredFile(memberService.findProfileImage(id).getImageKey());
+        
+        //then
+        assertEquals("Same content path", path, memberService.findProfileImage(otherId).getStoreFilePath());
+        assertEquals("Content path", fileStore.getContentPath(storedFile.getContentHash()), path);
+        assertEquals("Reference count", 2, storedFile.getRefCount());
+        
+        //when
+        memberService.update(createUpdateRequestDto(id, "User12!@", "사용자", null, null, null,
+                                                    new MockMultipartFile("image", new byte[]{})),
+                             true);
+        clear();
+        
+        //then
+        assertEquals("Reference count", 1, findStoredFile(storedFile.getContentHash()).getRefCount());
+        assertFalse("Still referenced", storedFileService.purge(storedFile.getContentHash()));
+        assertNotNull("File kept", fileStore.loadFile(path));
+        
+        //when
+        memberService.update(createUpdateRequestDto(otherId, "Other12!@", "다른사용자", null, null, null,
+                                                    new MockMultipartFile("image", new byte[]{})),
+                             true);
+        clear();
+        
+        //then
+        assertTrue("Purged", storedFileService.purge(storedFile.getContentHash()));
+        assertNull("File deleted", fileStore.loadFile(path));
+    }
+    
+    @Test(expected = InvalidValueException.class)
+    public void 회원정보수정_프로필사진_이미지아님() {
+        //given
+        Member member = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자", true);
+        em.persist(member);
+        ProfileImage profileImage = ProfileImage.builder().build();
+        em.persist(profileImage);
+        member.updateProfileImage(profileImage);
+        Long id = member.getId();
+        MemberUpdateRequestDto dto = createUpdateRequestDto(id,
+                                                            "User12!@",
+                                                            "사용자",
+                                                            null,
+                                                            null,
+                                                            null,
+                                                            new MockMultipartFile("image",
+                                                                                  "profile.png",
+                                                                                  "image/png",
+                                                                                  "프로필 사진".getBytes(StandardCharsets.UTF_8)));
+        clear();
+        
+        //when
+        memberService.update(dto, false);
+        
+        //then
+        fail("InvalidValueException");
+    }
+    
+    @Test(expected = InvalidValueException.class)
+    public void 회원정보수정_프로필사진_크기초과() throws Exception {
+        //given
+        Member member = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자", true);
+        em.persist(member);
+        ProfileImage profileImage = ProfileImage.builder().build();
+        em.persist(profileImage);
+        member.updateProfileImage(profileImage);
+        Long   id    = member.getId();
+        byte[] bytes = Arrays.copyOf(createImage(300, 200), 11 * 1024 * 1024);
+        MemberUpdateRequestDto dto = createUpdateRequestDto(id,
+                                                            "User12!@",
+                                                            "사용자",
+                                                            null,
+                                                            null,
+                                                            null,
+                                                            new MockMultipartFile("image", "profile.png", "image/png", bytes));
+        clear();
+        
+        //when
+        memberService.update(dto, false);
+        
+        //then
+        fail("InvalidValueException");
+    }
+    
     @Test
     public void 회원정보수정_서명() {
         //given
@@ -430,7 +586,7 @@ public class MemberServiceTest {
                                                 .storeFilePath(null)
                                                 .storeFilePath(null)
                                                 .fileSize(null)
-                                                .base64Data(null)
+                                                .contentHash(null)
                                                 .build();
         em.persist(profileImage);
         member.updateProfileImage(profileImage);
@@ -439,11 +595,66 @@ public class MemberServiceTest {
         
         //when
         memberService.delete("user@mail.com", "User12!@");
-        Optional<Member> findMember = memberRepository.findById(id);
+        clear();
+        Optional<Member>     findMember = memberRepository.findById(id);
+        List<MemberPurgeJob> jobs       = memberPurgeJobRepository.findAll();
+        
+        //then
+        assertTrue("Member disabled", findMember.isPresent() && findMember.get().getDisabled());
+        assertEquals("Purge job", 1, jobs.size());
+        assertEquals("Purge job member", id, jobs.get(0).getMemberId());
+        assertEquals("Purge job status", PurgeStatus.PENDING, jobs.get(0).getStatus());
+    }
+    
+    @Test
+    public void 회원탈퇴_데이터삭제() {
+        //given
+        Member member = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자", true);
+        Member other  = createMember("other@mail.com", "Other12!@", UUID.randomUUID().toString(), "다른사용자", true);
+        em.persist(member);
+        em.persist(other);
+        Category category = Category.builder().name("분류").build();
+        em.persist(category);
+        
+        Post post      = Post.builder().writer(member).title("제목").content("내용").category(category).noticeYn(false).build();
+        Post otherPost = Post.builder().writer(other).title("제목").content("내용").category(category).noticeYn(false).build();
+        em.persist(post);
+        em.persist(otherPost);
+        for (int i = 1; i <= 5; i++) {
+            em.persist(Comment.builder().writer(other).post(post).content("댓글 " + i).build());
+            em.persist(Comment.builder().writer(member).post(otherPost).content("댓글 " + i).build());
+        }
+        em.persist(Comment.builder().writer(other).post(otherPost).content("댓글").build());
+        em.createQuery("update Post p set p.commentCount = 5 where p.id = :id").setParameter("id", post.getId()).executeUpdate();
+        em.createQuery("update Post p set p.commentCount = 6 where p.id = :id").setParameter("id", otherPost.getId()).executeUpdate();
+        
+        Long id      = member.getId();
+        Long postId  = post.getId();
+        Long otherId = otherPost.getId();
+        clear();
+        
+        memberService.delete("user@mail.com", "User12!@");
+        clear();
+        Long jobId = memberPurgeJobRepository.findAll().get(0).getId();
+        
+        //when
+        boolean completed = memberPurgeService.run(jobId);
         clear();
         
         //then
-        assertFalse("Member deleted", findMember.isPresent());
+        MemberPurgeJob job = memberPurgeJobRepository.findById(jobId).get();
+        
+        assertTrue("Completed", completed);
+        assertFalse("Member deleted", memberRepository.findById(id).isPresent());
+        assertNull("Post deleted", em.find(Post.class, postId));
+        assertEquals("Comment count", 1, em.find(Post.class, otherId).getCommentCount());
+        assertEquals("Remaining comments",
+                     1L,
+                     em.createQuery("select count(c) from Comment c", Long.class).getSingleResult().longValue());
+        assertEquals("Job status", PurgeStatus.COMPLETED, job.getStatus());
+        assertEquals("Purged posts", 1, job.getPurgedPosts());
+        assertEquals("Purged comments", 5, job.getPurgedComments());
+        assertFalse("Not run twice", memberPurgeService.run(jobId));
     }
     
     @Test(expected = EntityNotFoundException.class)
@@ -487,6 +698,19 @@ public class MemberServiceTest {
         return member;
     }
     
+    private StoredFile findStoredFile(String contentHash) {
+        return em.createQuery("select f from StoredFile f where f.contentHash = :contentHash", StoredFile.class)
+                 .setParameter("contentHash", contentHash)
+                 .getSingleResult();
+    }
+    
+    private byte[] createImage(int width, int height) throws IOException {
+        BufferedImage         image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out   = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+    
     private MemberJoinRequestDto createJoinRequestDto(String username, String password, String nickname) {
         MemberJoinRequestDto dto = new MemberJoinRequestDto();
         dto.setUsername(username);
@@ -3,7 +3,6 @@ package com.project.alfa.service;
 import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.InvalidValueException;
 import com.project.alfa.common.util.EmailSender;
-import com.project.alfa.common.util.FileStore;
 import com.project.alfa.domain.EmailAuth;
 import com.project.alfa.domain.Member;
 import com.project.alfa.domain.ProfileImage;
@@ -22,6 +21,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -35,29 +35,36 @@ import static org.mockito.Mockito.*;
 @PrepareForTest(MemberService.class)
 public class MemberServiceTestWithMockito {
     
-    MemberService     memberService;
-    EmailSender       emailSender;
-    PasswordEncoder   passwordEncoder;
-    FileStore         fileStore;
-    MemberRepository  memberRepository;
-    PostRepository    postRepository;
-    CommentRepository commentRepository;
+    MemberService              memberService;
+    EmailSender                emailSender;
+    PasswordEncoder            passwordEncoder;
+    StoredFileService          storedFileService;
+    MemberRepository           memberRepository;
+    PostRepository             postRepository;
+    CommentRepository          commentRepository;
+    MemberPurgeService         memberPurgeService;
+    ProfileImageVariantService profileImageVariantService;
     
     @Before
     public void setup() {
         memberRepository = mock(MemberRepository.class);
         emailSender = mock(EmailSender.class);
         passwordEncoder = mock(PasswordEncoder.class);
-        fileStore = mock(FileStore.class);
+        storedFileService = mock(StoredFileService.class);
         memberRepository = mock(MemberRepository.class);
         postRepository = mock(PostRepository.class);
         commentRepository = mock(CommentRepository.class);
+        memberPurgeService = mock(MemberPurgeService.class);
+        profileImageVariantService = mock(ProfileImageVariantService.class);
         memberService = PowerMockito.spy(new MemberService(memberRepository,
                                                            emailSender,
                                                            passwordEncoder,
-                                                           fileStore,
+                                                           storedFileService,
                                                            postRepository,
-                                                           commentRepository));
+                                                           commentRepository,
+                                                           memberPurgeService,
+                                                           profileImageVariantService,
+                                                           mock(PlatformTransactionManager.class)));
     }
     
     @Test
@@ -315,11 +322,9 @@ public class MemberServiceTestWithMockito {
         MultipartFile          file = mock(MultipartFile.class);
         MemberUpdateRequestDto dto  = createUpdateRequestDto(0L, "User12!@", "사용자", "사용자 서명입니다.", null, file);
         
-        Member         member       = mock(Member.class);
-        EmailAuth      emailAuth    = mock(EmailAuth.class);
-        Base64.Encoder encoder      = mock(Base64.Encoder.class);
-        FileStore      fileStore    = mock(FileStore.class);
-        ProfileImage   profileImage = mock(ProfileImage.class);
+        Member       member       = mock(Member.class);
+        EmailAuth    emailAuth    = mock(EmailAuth.class);
+        ProfileImage profileImage = mock(ProfileImage.class);
         
         when(memberRepository.findById(anyLong())).thenReturn(Optional.of(member));
         when(member.getPassword()).thenReturn(UUID.randomUUID().toString());
@@ -342,12 +347,11 @@ public class MemberServiceTestWithMockito {
         verify(member, times(1)).updateNickname(anyString());
         verify(member, times(1)).updateSignature(anyString());
         verify(file, times(1)).isEmpty();
-        verify(encoder, never()).encodeToString(any(byte[].class));
-        verify(fileStore, never()).storeFile(any(MultipartFile.class));
+        verify(storedFileService, never()).store(any(MultipartFile.class));
         verify(member, never()).getProfileImage();
         verify(profileImage, never()).getStoreFilePath();
         verify(profileImage, never()).updateImage(anyString(), anyString(), anyString(), anyLong(), anyString());
-        verify(fileStore, never()).deleteUploadedFile(anyString());
+        verify(storedFileService, never()).release(any());
         verify(profileImage, never()).delete();
         verify(member, never()).updatePassword(anyString());
     }
@@ -2,27 +2,41 @@ package com.project.alfa.service;
 
 import com.project.alfa.common.error.exception.EntityNotFoundException;
 import com.project.alfa.common.error.exception.InvalidValueException;
+import com.project.alfa.common.search.PostSearchIndex;
+import com.project.alfa.config.QueryCounter;
 import com.project.alfa.domain.Category;
+import com.project.alfa.domain.Comment;
 import com.project.alfa.domain.EmailAuth;
 import com.project.alfa.domain.Member;
 import com.project.alfa.domain.Post;
 import com.project.alfa.repository.PostRepository;
+import com.project.alfa.service.dto.CommentRequestDto;
 import com.project.alfa.service.dto.PostListResponseDto;
 import com.project.alfa.service.dto.PostReadResponseDto;
+import com.project.alfa.service.dto.PostSliceResponseDto;
 import com.project.alfa.service.dto.PostWriteRequestDto;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 import static java.util.stream.Collectors.toList;
@@ -36,11 +50,25 @@ import static org.junit.Assert.*;
 public class PostServiceTest {
     
     @Autowired
-    PostService    postService;
+    PostService               postService;
     @Autowired
-    PostRepository postRepository;
+    PostViewCountService      postViewCountService;
+    @Autowired
+    PostCountService          postCountService;
+    @Autowired
+    CommentService            commentService;
+    @Autowired
+    PostRepository            postRepository;
+    @Autowired
+    QueryCounter              queryCounter;
+    @Autowired
+    PostSearchIndex           postSearchIndex;
+    @Autowired
+    PostListGenerationService postListGenerationService;
+    @Autowired
+    StringRedisTemplate       stringRedisTemplate;
     @PersistenceContext
-    EntityManager  em;
+    EntityManager             em;
     
     @After
     public void clear() {
@@ -48,6 +76,18 @@ public class PostServiceTest {
         em.clear();
     }
     
+    @After
+    public void clearSearchIndex() {
+        postSearchIndex.clear();
+    }
+    
+    @Before
+    @After
+    public void clearRanking() {
+        Set<String> keys = stringRedisTemplate.keys("post:rank:*");
+        if (keys != null && !keys.isEmpty()) stringRedisTemplate.delete(keys);
+    }
+    
     @Test
     public void 게시글저장() {
         //given
@@ -74,6 +114,28 @@ public class PostServiceTest {
         assertEquals("NoticeYn same", dto.getNoticeYn(), findPost.getNoticeYn());
     }
     
+    @Test(expected = InvalidValueException.class)
+    public void 게시글저장_탈퇴처리중인계정() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        
+        writer.disable();
+        em.persist(writer);
+        em.persist(category);
+        Long wId = writer.getId();
+        Long cId = category.getId();
+        clear();
+        
+        PostWriteRequestDto dto = createWriteRequestDto(null, wId, cId, "게시글 제목", "게시글 내용", false);
+        
+        //when
+        postService.save(dto);
+        
+        //then
+        fail("InvalidValueException");
+    }
+    
     @Test(expected = EntityNotFoundException.class)
     public void 게시글저장_계정엔티티조회불가() {
         //given
@@ -113,7 +175,7 @@ public class PostServiceTest {
     }
     
     @Test
-    public void 게시글읽기() {
+    public void 게시글읽기_OnlyPK() {
         //given
         Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
         Category category = createCategory("분류");
@@ -125,11 +187,8 @@ public class PostServiceTest {
         Long id = post.getId();
         clear();
         
-        String sessionId = UUID.randomUUID().toString();
-        String ipAddress = UUID.randomUUID().toString();
-        
         //when
-        PostReadResponseDto dto = postService.readPost(id, sessionId, ipAddress);
+        PostReadResponseDto dto = postService.readPost(id);
         clear();
         
         //then
@@ -144,22 +203,50 @@ public class PostServiceTest {
     }
     
     @Test(expected = EntityNotFoundException.class)
-    public void 게시글읽기_게시글엔티티조회불가() {
+    public void 게시글읽기_OnlyPK_게시글엔티티조회불가() {
         //given
         Long id = new Random().nextLong();
         
-        String sessionId = UUID.randomUUID().toString();
-        String ipAddress = UUID.randomUUID().toString();
-        
         //when
-        postService.readPost(id, sessionId, ipAddress);
+        postService.readPost(id);
         
         //then
         fail("EntityNotFoundException");
     }
     
     @Test
-    public void 게시글읽기_OnlyPK() {
+    public void 게시글읽기_쿼리수() {
+        //given
+        List<Member> writers = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            Member writer = createMember("user" + i + "@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자" + i);
+            writers.add(writer);
+            em.persist(writer);
+        }
+        Category category = createCategory("분류");
+        Post     post     = createPost(writers.get(0), "게시글 제목", "게시글 내용", category, false);
+        
+        em.persist(category);
+        em.persist(post);
+        for (int i = 1; i <= 30; i++)
+            em.persist(Comment.builder().writer(writers.get(i % writers.size())).post(post).content("댓글 내용 " + i).build());
+        Long id = post.getId();
+        clear();
+        
+        //when
+        queryCounter.start();
+        PostReadResponseDto dto = postService.readPost(id);
+        int executed = queryCounter.stop();
+        
+        //then
+        assertEquals("Writer nickname", "사용자1", dto.getWNickname());
+        assertEquals("First page of comments", 10, dto.getComments().size());
+        assertNotNull("Next page cursor", dto.getCommentsNextCursor());
+        assertEquals("Post and first page of comments in two statements", 2, executed);
+    }
+    
+    @Test
+    public void 조회수증가() {
         //given
         Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
         Category category = createCategory("분류");
@@ -171,35 +258,53 @@ public class PostServiceTest {
         Long id = post.getId();
         clear();
         
+        int beforeViewCount = post.getViewCount();
+        
+        Long   memberId  = writer.getId();
+        String ipAddress = UUID.randomUUID().toString();
+        
         //when
-        PostReadResponseDto dto = postService.readPost(id);
-        clear();
+        postService.updateViewCount(id, memberId, ipAddress);
         
         //then
-        Post findPost = em.find(Post.class, id);
+        assertEquals("ViewCount not flushed yet", beforeViewCount, em.find(Post.class, id).getViewCount());
+        assertEquals("ViewCount with pending", beforeViewCount + 1, postService.readPost(id).getViewCount());
+        clear();
         
-        assertEquals("PK same", dto.getId(), findPost.getId());
-        assertEquals("Writer PK same", dto.getWId(), findPost.getWriter().getId());
-        assertEquals("Category PK same", dto.getCId(), findPost.getCategory().getId());
-        assertEquals("Title same", dto.getTitle(), findPost.getTitle());
-        assertEquals("Content same", dto.getContent(), findPost.getContent());
-        assertEquals("NoticeYn same", dto.getNoticeYn(), findPost.getNoticeYn());
+        postViewCountService.flush();
+        int afterViewCount = em.find(Post.class, id).getViewCount();
+        
+        assertNotEquals("ViewCount changed", beforeViewCount, afterViewCount);
+        assertEquals("ViewCount changed", beforeViewCount + 1, afterViewCount);
     }
     
-    @Test(expected = EntityNotFoundException.class)
-    public void 게시글읽기_OnlyPK_게시글엔티티조회불가() {
+    @Test
+    public void 조회수증가_회원중복조회() {
         //given
-        Long id = new Random().nextLong();
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        Post     post     = createPost(writer, "게시글 제목", "게시글 내용", category, false);
+        
+        em.persist(writer);
+        em.persist(category);
+        em.persist(post);
+        Long id = post.getId();
+        clear();
+        
+        int beforeViewCount = post.getViewCount();
+        
+        Long memberId = writer.getId();
         
         //when
-        postService.readPost(id);
+        postService.updateViewCount(id, memberId, UUID.randomUUID().toString());
+        postService.updateViewCount(id, memberId, UUID.randomUUID().toString());
         
         //then
-        fail("EntityNotFoundException");
+        assertEquals("ViewCount increased once", beforeViewCount + 1, postService.readPost(id).getViewCount());
     }
     
     @Test
-    public void 조회수증가() {
+    public void 조회수증가_비회원중복조회() {
         //given
         Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
         Category category = createCategory("분류");
@@ -213,17 +318,14 @@ public class PostServiceTest {
         
         int beforeViewCount = post.getViewCount();
         
-        String sessionId = UUID.randomUUID().toString();
         String ipAddress = UUID.randomUUID().toString();
         
         //when
-        postService.updateViewCount(id, sessionId, ipAddress);
+        postService.updateViewCount(id, null, ipAddress);
+        postService.updateViewCount(id, null, ipAddress);
         
         //then
-        int afterViewCount = em.find(Post.class, id).getViewCount();
-        
-        assertNotEquals("ViewCount changed", beforeViewCount, afterViewCount);
-        assertEquals("ViewCount changed", beforeViewCount + 1, afterViewCount);
+        assertEquals("ViewCount increased once", beforeViewCount + 1, postService.readPost(id).getViewCount());
     }
     
     @Test(expected = EntityNotFoundException.class)
@@ -231,11 +333,11 @@ public class PostServiceTest {
         //given
         Long id = new Random().nextLong();
         
-        String sessionId = UUID.randomUUID().toString();
+        Long   memberId  = new Random().nextLong();
         String ipAddress = UUID.randomUUID().toString();
         
         //when
-        postService.updateViewCount(id, sessionId, ipAddress);
+        postService.updateViewCount(id, memberId, ipAddress);
         
         //then
         fail("EntityNotFoundException");
@@ -432,6 +534,181 @@ public class PostServiceTest {
         fail("EntityNotFoundException");
     }
     
+    @Test
+    public void 게시글목록조회_전체갯수카운터() {
+        //given
+        List<Member>   writers    = new ArrayList<>();
+        List<Category> categories = new ArrayList<>();
+        
+        for (int i = 1; i <= 10; i++) {
+            Member writer = createMember("user" + i + "@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자" + i);
+            writers.add(writer);
+            em.persist(writer);
+        }
+        
+        for (int i = 1; i <= 3; i++) {
+            Category category = createCategory("분류" + i);
+            categories.add(category);
+            em.persist(category);
+        }
+        
+        clear();
+        
+        List<Post> posts = createPosts(writers, categories, 100, false);
+        postCountService.reset();
+        
+        Category category = categories.get(0);
+        long     expected = posts.stream().filter(post -> post.getCategory() == category).count();
+        
+        //when
+        long total         = postService.findAll("ALL", false, PageRequest.of(0, 10)).getTotalElements();
+        long categoryTotal = postService.findAll(category.getName(), false, PageRequest.of(0, 10)).getTotalElements();
+        long cachedTotal   = postCountService.getCount(null, false);
+        postCountService.reset();
+        
+        //then
+        assertEquals("Total elements same", 100, total);
+        assertEquals("Category total elements same", expected, categoryTotal);
+        assertEquals("Cached total same", 100, cachedTotal);
+    }
+    
+    @Test
+    public void 목록조회_캐시() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory(UUID.randomUUID().toString());
+        
+        em.persist(writer);
+        em.persist(category);
+        Long   wId          = writer.getId();
+        Long   cId          = category.getId();
+        String categoryName = category.getName();
+        clear();
+        
+        createPosts(Collections.singletonList(writer), Collections.singletonList(category), 5, false);
+        Page<PostListResponseDto> first = postService.findAll(categoryName, false, PageRequest.of(0, 10));
+        
+        //when
+        queryCounter.start();
+        Page<PostListResponseDto> second      = postService.findAll(categoryName, false, PageRequest.of(0, 10));
+        int                       cachedCount = queryCounter.stop();
+        
+        Long id = postService.save(createWriteRequestDto(null, wId, cId, "게시글 제목", "게시글 내용", false));
+        runAfterCommitTasks();
+        
+        queryCounter.start();
+        Page<PostListResponseDto> third     = postService.findAll(categoryName, false, PageRequest.of(0, 10));
+        int                       loadCount = queryCounter.stop();
+        postCountService.reset();
+        
+        //then
+        List<Long> firstIds  = first.getContent().stream().map(PostListResponseDto::getId).collect(toList());
+        List<Long> secondIds = second.getContent().stream().map(PostListResponseDto::getId).collect(toList());
+        List<Long> thirdIds  = third.getContent().stream().map(PostListResponseDto::getId).collect(toList());
+        
+        assertEquals("First page loaded", 5, firstIds.size());
+        assertEquals("Served from postList", 0, cachedCount);
+        assertEquals("Cached page same", firstIds, secondIds);
+        assertTrue("Reloaded after generation bumped", loadCount > 0);
+        assertTrue("New post listed", thirdIds.contains(id));
+    }
+    
+    @Test
+    public void 목록조회_캐시_댓글작성() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory(UUID.randomUUID().toString());
+        Post     post     = createPost(writer, "게시글 제목", "게시글 내용", category, false);
+        
+        em.persist(writer);
+        em.persist(category);
+        em.persist(post);
+        Long   wId          = writer.getId();
+        Long   id           = post.getId();
+        String categoryName = category.getName();
+        clear();
+        
+        postService.findAll(categoryName, false, PageRequest.of(0, 10));
+        
+        CommentRequestDto dto = new CommentRequestDto();
+        dto.setWId(wId);
+        dto.setPId(id);
+        dto.setContent("댓글 내용");
+        
+        //when
+        commentService.save(dto);
+        runAfterCommitTasks();
+        
+        queryCounter.start();
+        Page<PostListResponseDto> page      = postService.findAll(categoryName, false, PageRequest.of(0, 10));
+        int                       loadCount = queryCounter.stop();
+        postCountService.reset();
+        
+        //then
+        assertTrue("Reloaded after generation bumped", loadCount > 0);
+        assertEquals("Comment count refreshed", 1, page.getContent().get(0).getCommentsCount());
+    }
+    
+    @Test
+    public void 커서목록조회_모든카테고리() {
+        //given
+        List<Member>   writers    = new ArrayList<>();
+        List<Category> categories = new ArrayList<>();
+        
+        for (int i = 1; i <= 10; i++) {
+            Member writer = createMember("user" + i + "@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자" + i);
+            writers.add(writer);
+            em.persist(writer);
+        }
+        
+        for (int i = 1; i <= 3; i++) {
+            Category category = createCategory("분류" + i);
+            categories.add(category);
+            em.persist(category);
+        }
+        
+        clear();
+        
+        List<Post> posts = createPosts(writers, categories, 25, false);
+        
+        //when
+        PostSliceResponseDto first  = postService.findAllByCursor("ALL", null, null, false, null, false, 10);
+        PostSliceResponseDto second = postService.findAllByCursor("ALL", null, null, false, first.getNextCursor(), false, 10);
+        PostSliceResponseDto third  = postService.findAllByCursor("ALL", null, null, false, second.getNextCursor(), false, 10);
+        PostSliceResponseDto back   = postService.findAllByCursor("ALL", null, null, false, second.getPrevCursor(), true, 10);
+        
+        //then
+        List<Long> ids = new ArrayList<>();
+        ids.addAll(first.getContent().stream().map(PostListResponseDto::getId).collect(toList()));
+        ids.addAll(second.getContent().stream().map(PostListResponseDto::getId).collect(toList()));
+        ids.addAll(third.getContent().stream().map(PostListResponseDto::getId).collect(toList()));
+        
+        List<Long> expected = posts.stream()
+                                   .sorted(Comparator.comparing(Post::getCreatedDate)
+                                                     .thenComparing(Post::getId)
+                                                     .reversed())
+                                   .map(Post::getId)
+                                   .collect(toList());
+        
+        assertEquals("All posts in order without duplicates", expected, ids);
+        assertFalse("First page has no prev", first.hasPrev());
+        assertTrue("First page has next", first.hasNext());
+        assertFalse("Last page has no next", third.hasNext());
+        assertEquals("The size of last page must be 5", 5, third.getContent().size());
+        assertEquals("Prev of second page is first page",
+                     first.getContent().stream().map(PostListResponseDto::getId).collect(toList()),
+                     back.getContent().stream().map(PostListResponseDto::getId).collect(toList()));
+    }
+    
+    @Test(expected = InvalidValueException.class)
+    public void 커서목록조회_잘못된커서() {
+        //when
+        postService.findAllByCursor("ALL", null, null, false, "invalid-cursor", false, 10);
+        
+        //then
+        fail("InvalidValueException");
+    }
+    
     @Test
     public void 검색목록조회_모든카테고리() {
         //given
@@ -457,6 +734,8 @@ public class PostServiceTest {
         String condition = "title";
         String keyword   = "10";
         
+        runAfterCommitTasks();
+        
         //when
         List<PostListResponseDto> content = postService.findAllWithKeyword("ALL",
                                                                            condition,
@@ -516,6 +795,8 @@ public class PostServiceTest {
         String condition = "title";
         String keyword   = "1";
         
+        runAfterCommitTasks();
+        
         //when
         List<PostListResponseDto> content = postService.findAllWithKeyword("ALL",
                                                                            condition,
@@ -578,6 +859,8 @@ public class PostServiceTest {
         String   condition = "title";
         String   keyword   = "10";
         
+        runAfterCommitTasks();
+        
         //when
         List<PostListResponseDto> content = postService.findAllWithKeyword(category.getName(),
                                                                            condition,
@@ -642,6 +925,8 @@ public class PostServiceTest {
         String   condition = "title";
         String   keyword   = "1";
         
+        runAfterCommitTasks();
+        
         //when
         List<PostListResponseDto> content = postService.findAllWithKeyword(category.getName(),
                                                                            condition,
@@ -695,6 +980,52 @@ public class PostServiceTest {
         fail("EntityNotFoundException");
     }
     
+    @Test
+    public void 검색목록조회_한글키워드_닉네임변경() {
+        //given
+        Member writer = createMember("user1@mail.com", "User12!@", UUID.randomUUID().toString(), "작성자");
+        em.persist(writer);
+        
+        Category category = createCategory("분류1");
+        em.persist(category);
+        
+        Post post = createPost(writer, "스프링 부트 게시판", "바이그램 색인 테스트", category, false);
+        em.persist(post);
+        em.persist(createPost(writer, "부트캠프 후기", "게시판 이용 방법", category, false));
+        
+        runAfterCommitTasks();
+        
+        //when
+        long titlePhrase  = postService.findAllWithKeyword("ALL", "title", "부트 게시", false, PageRequest.of(0, 10))
+                                       .getTotalElements();
+        long titleNoSpace = postService.findAllWithKeyword("ALL", "title", "부트게시", false, PageRequest.of(0, 10))
+                                       .getTotalElements();
+        long bothFields   = postService.findAllWithKeyword("ALL", "titleOrContent", "게시판", false, PageRequest.of(0, 10))
+                                       .getTotalElements();
+        List<PostListResponseDto> content = postService.findAllWithKeyword("ALL",
+                                                                           "content",
+                                                                           "그램 색",
+                                                                           false,
+                                                                           PageRequest.of(0, 10)).getContent();
+        
+        writer.updateNickname("새닉네임");
+        runAfterCommitTasks();
+        
+        long newNickname = postService.findAllWithKeyword("ALL", "writer", "닉네", false, PageRequest.of(0, 10))
+                                      .getTotalElements();
+        long oldNickname = postService.findAllWithKeyword("ALL", "writer", "작성자", false, PageRequest.of(0, 10))
+                                      .getTotalElements();
+        
+        //then
+        assertEquals("Phrase matched", 1, titlePhrase);
+        assertEquals("Bigrams must be adjacent", 0, titleNoSpace);
+        assertEquals("Title or content matched", 2, bothFields);
+        assertEquals("Content matched", 1, content.size());
+        assertEquals("PK same", post.getId(), content.get(0).getId());
+        assertEquals("New nickname matched", 2, newNickname);
+        assertEquals("Old nickname not matched", 0, oldNickname);
+    }
+    
     @Test
     public void 기간및갯수로목록조회_모든카테고리() {
         //given
@@ -857,6 +1188,48 @@ public class PostServiceTest {
                         findPost.getCategory().getName());
     }
     
+    @Test
+    public void 게시글수정_연관컬렉션미로딩() {
+        //given
+        Member   writer    = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category1 = createCategory("분류1");
+        Category category2 = createCategory("분류2");
+        
+        em.persist(writer);
+        em.persist(category1);
+        em.persist(category2);
+        
+        List<Post> posts = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            Post post = createPost(writer, "게시글 제목" + i, "게시글 내용" + i, category1, false);
+            posts.add(post);
+            em.persist(post);
+        }
+        
+        Long id  = posts.get(0).getId();
+        Long wId = writer.getId();
+        Long cId = category2.getId();
+        clear();
+        
+        PostWriteRequestDto dto = createWriteRequestDto(id, wId, cId, "게시글 제목 수정", "게시글 내용 수정", false);
+        
+        //when
+        postService.update(dto);
+        Long newId = postService.save(createWriteRequestDto(null, wId, cId, "게시글 제목", "게시글 내용", false));
+        
+        //then
+        Post findPost = em.find(Post.class, id);
+        
+        assertEquals("Category must be changed", cId, findPost.getCategory().getId());
+        assertFalse("Posts of previous category must not be loaded",
+                    Hibernate.isInitialized(em.find(Category.class, category1.getId()).getPosts()));
+        assertFalse("Posts of new category must not be loaded",
+                    Hibernate.isInitialized(em.find(Category.class, cId).getPosts()));
+        assertFalse("Posts of writer must not be loaded",
+                    Hibernate.isInitialized(em.find(Member.class, wId).getPosts()));
+        assertNotNull("Saved", em.find(Post.class, newId));
+    }
+    
     @Test(expected = EntityNotFoundException.class)
     public void 게시글수정_게시글엔티티조회불가() {
         //given
@@ -1004,6 +1377,81 @@ public class PostServiceTest {
         assertTrue("Post must not be found", em.find(Post.class, id) == null);
     }
     
+    @Test
+    public void 게시글삭제_댓글일괄삭제() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        
+        em.persist(writer);
+        em.persist(category);
+        
+        Post post = createPost(writer, "게시글 제목", "게시글 내용", category, false);
+        em.persist(post);
+        for (int i = 1; i <= 20; i++)
+            em.persist(Comment.builder().writer(writer).post(post).content("댓글 내용 " + i).build());
+        
+        Long id       = post.getId();
+        Long writerId = writer.getId();
+        clear();
+        
+        //when
+        queryCounter.start();
+        postService.delete(writerId, id);
+        int queryCount = queryCounter.stop();
+        clear();
+        
+        //then
+        Long commentCount = em.createQuery("select count(c) from Comment c where c.post.id = :id", Long.class)
+                              .setParameter("id", id)
+                              .getSingleResult();
+        
+        assertTrue("Post must not be found", em.find(Post.class, id) == null);
+        assertEquals("Comments", 0L, commentCount.longValue());
+        assertTrue("Comments must not be deleted one by one", queryCount < 20);
+    }
+    
+    @Test
+    public void 게시글일괄삭제() {
+        //given
+        Member   writer    = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category1 = createCategory("분류1");
+        Category category2 = createCategory("분류2");
+        
+        em.persist(writer);
+        em.persist(category1);
+        em.persist(category2);
+        
+        List<Post> posts1 = createPosts(Collections.singletonList(writer), Collections.singletonList(category1), 10, false);
+        List<Post> posts2 = createPosts(Collections.singletonList(writer), Collections.singletonList(category2), 10, false);
+        
+        List<Long> ids = posts1.stream().limit(5).map(Post::getId).collect(toList());
+        ids.add(new Random().nextLong());   //존재하지 않는 PK는 무시
+        
+        //when
+        int deletedByIds      = postService.deleteAllByIds(ids);
+        int deletedByCategory = postService.deleteAllByFilter("분류2", null);
+        clear();
+        
+        //then
+        List<Post> remaining = em.createQuery("select p from Post p", Post.class).getResultList();
+        
+        assertEquals("Deleted by ids", 5, deletedByIds);
+        assertEquals("Deleted by category", 10, deletedByCategory);
+        assertEquals("Remaining", 5, remaining.size());
+        assertTrue("Remaining in category1",
+                   remaining.stream().allMatch(post -> post.getCategory().getId().equals(category1.getId())));
+    }
+    
+    @Test(expected = InvalidValueException.class)
+    public void 게시글일괄삭제_조건없음() {
+        //when
+        postService.deleteAllByFilter("ALL", null);
+        
+        //then
+        fail("InvalidValueException");
+    }
+    
     @Test(expected = EntityNotFoundException.class)
     public void 게시글삭제_게시글엔티티조회불가() {
         //given
@@ -1073,6 +1521,205 @@ public class PostServiceTest {
         fail("InvalidValueException");
     }
     
+    @Test
+    public void 인기급상승목록조회() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        Post     post1    = createPost(writer, "게시글 제목 1", "게시글 내용 1", category, false);
+        Post     post2    = createPost(writer, "게시글 제목 2", "게시글 내용 2", category, false);
+        
+        em.persist(writer);
+        em.persist(category);
+        em.persist(post1);
+        em.persist(post2);
+        Long id1 = post1.getId();
+        Long id2 = post2.getId();
+        clear();
+        
+        //when
+        postService.updateViewCount(id1, null, UUID.randomUUID().toString());
+        for (int i = 0; i < 3; i++)
+            postService.updateViewCount(id2, null, UUID.randomUUID().toString());
+        
+        //then
+        List<Long> ids = postService.findTopNTrending(1000).stream().map(PostListResponseDto::getId).collect(toList());
+        
+        assertTrue("Trending contains post1", ids.contains(id1));
+        assertTrue("Trending contains post2", ids.contains(id2));
+        assertTrue("More viewed post ranks higher", ids.indexOf(id2) < ids.indexOf(id1));
+    }
+    
+    @Test
+    public void 조회수순위조회() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        Post     post1    = createPost(writer, "게시글 제목 1", "게시글 내용 1", category, false);
+        Post     post2    = createPost(writer, "게시글 제목 2", "게시글 내용 2", category, false);
+        
+        em.persist(writer);
+        em.persist(category);
+        em.persist(post1);
+        em.persist(post2);
+        Long id1 = post1.getId();
+        Long id2 = post2.getId();
+        clear();
+        
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        postService.findTopNViewCount("1d", 10);    //DB에서 버킷 초기화
+        postService.findTopNViewCount("1y", 10);
+        
+        //when
+        postService.updateViewCount(id1, null, UUID.randomUUID().toString());
+        for (int i = 0; i < 3; i++)
+            postService.updateViewCount(id2, null, UUID.randomUUID().toString());
+        stringRedisTemplate.delete(stringRedisTemplate.keys("post:rank:window:*"));
+        
+        //then
+        List<Long> dayIds  = postService.findTopNViewCount("1d", 10).stream().map(PostListResponseDto::getId).collect(toList());
+        List<Long> yearIds = postService.findTopNViewCount("1y", 10).stream().map(PostListResponseDto::getId).collect(toList());
+        Long       ttl     = stringRedisTemplate.getExpire("post:rank:view:d" + today);
+        
+        assertTrue("More viewed post ranks higher today", dayIds.indexOf(id2) < dayIds.indexOf(id1));
+        assertTrue("More viewed post ranks higher this year", yearIds.indexOf(id2) < yearIds.indexOf(id1));
+        assertTrue("Ranked", dayIds.contains(id1) && yearIds.contains(id1));
+        assertTrue("Seeded", stringRedisTemplate.hasKey("post:rank:seeded:d" + today));
+        assertTrue("Bucket expires", ttl != null && ttl > 0);
+    }
+    
+    @Test
+    public void 조회수순위조회_어제작성된게시글() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        Post     post1    = createPost(writer, "게시글 제목 1", "게시글 내용 1", category, false);
+        Post     post2    = createPost(writer, "게시글 제목 2", "게시글 내용 2", category, false);
+        
+        em.persist(writer);
+        em.persist(category);
+        em.persist(post1);
+        em.persist(post2);
+        Long id1 = post1.getId();
+        Long id2 = post2.getId();
+        em.createQuery("update Post p set p.createdDate = :createdDate where p.id = :id")
+          .setParameter("createdDate", LocalDate.now().minusDays(1).atTime(12, 0))
+          .setParameter("id", id1)
+          .executeUpdate();
+        em.createQuery("update Post p set p.createdDate = :createdDate where p.id = :id")
+          .setParameter("createdDate", LocalDate.now().minusDays(3).atTime(12, 0))
+          .setParameter("id", id2)
+          .executeUpdate();
+        clear();
+        
+        //when
+        List<Long> ids = postService.findTopNViewCount("1d", 10).stream().map(PostListResponseDto::getId).collect(toList());
+        
+        //then
+        assertTrue("Post written yesterday is ranked", ids.contains(id1));
+        assertFalse("Post written 3 days ago is not ranked", ids.contains(id2));
+    }
+    
+    @Test
+    public void 게시글순위등록() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        
+        em.persist(writer);
+        em.persist(category);
+        Long wId = writer.getId();
+        Long cId = category.getId();
+        clear();
+        
+        PostWriteRequestDto dto = createWriteRequestDto(null, wId, cId, "게시글 제목", "게시글 내용", false);
+        
+        //when
+        Long id = postService.save(dto);
+        runAfterCommitTasks();
+        
+        //then
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        
+        assertEquals("Created day",
+                     Double.valueOf(today),
+                     stringRedisTemplate.opsForZSet().score("post:rank:created", id.toString()));
+        assertNotNull("Added to day bucket",
+                      stringRedisTemplate.opsForZSet().score("post:rank:comment:d" + today, id.toString()));
+        assertEquals("Latest post",
+                     id,
+                     postService.findTopNNewPosts(1).get(0).getId());
+    }
+    
+    @Test
+    public void 게시글순위제거() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        Post     post     = createPost(writer, "게시글 제목", "게시글 내용", category, false);
+        
+        em.persist(writer);
+        em.persist(category);
+        em.persist(post);
+        Long          wId         = writer.getId();
+        Long          id          = post.getId();
+        LocalDateTime createdDate = LocalDate.now().minusDays(3).atTime(12, 0);
+        em.createQuery("update Post p set p.createdDate = :createdDate where p.id = :id")
+          .setParameter("createdDate", createdDate)
+          .setParameter("id", id)
+          .executeUpdate();
+        clear();
+        
+        String day = "d" + createdDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+        postService.findTopNViewCount("1w", 10);    //DB에서 버킷 초기화
+        Double before = stringRedisTemplate.opsForZSet().score("post:rank:view:" + day, id.toString());
+        
+        //when
+        postService.delete(wId, id);
+        runAfterCommitTasks();
+        
+        //then
+        assertNotNull("Seeded into created day bucket", before);
+        assertNull("Removed from created day bucket",
+                   stringRedisTemplate.opsForZSet().score("post:rank:view:" + day, id.toString()));
+        assertNull("Removed from created index",
+                   stringRedisTemplate.opsForZSet().score("post:rank:created", id.toString()));
+    }
+    
+    @Test
+    public void 댓글수보정() {
+        //given
+        Member   writer   = createMember("user@mail.com", "User12!@", UUID.randomUUID().toString(), "사용자");
+        Category category = createCategory("분류");
+        Post     post     = createPost(writer, "게시글 제목", "게시글 내용", category, false);
+        
+        em.persist(writer);
+        em.persist(category);
+        em.persist(post);
+        for (int i = 1; i <= 5; i++)
+            em.persist(Comment.builder().writer(writer).post(post).content("댓글 내용 " + i).build());
+        Long id = post.getId();
+        clear();
+        
+        int  beforeCommentCount = em.find(Post.class, id).getCommentCount();
+        long beforeGeneration   = postListGenerationService.getGeneration("분류");
+        clear();
+        
+        //when
+        int reconciled = postService.reconcileCommentCounts();
+        runAfterCommitTasks();
+        clear();
+        
+        //then
+        int  afterCommentCount = em.find(Post.class, id).getCommentCount();
+        long afterGeneration   = postListGenerationService.getGeneration("분류");
+        
+        assertEquals("CommentCount drifted", 0, beforeCommentCount);
+        assertTrue("Reconciled", reconciled >= 1);
+        assertEquals("CommentCount reconciled", 5, afterCommentCount);
+        assertEquals("List generation bumped", beforeGeneration + 1, afterGeneration);
+    }
+    
     private Post createPost(Member writer, String title, String content, Category category, boolean noticeYn) {
         return Post.builder()
                    .writer(writer)
@@ -1119,6 +1766,12 @@ public class PostServiceTest {
         return posts;
     }
     
+    //검색 색인, 게시글 순위는 트랜잭션이 커밋된 후에 반영되므로, 롤백되는 테스트 트랜잭션에서 커밋 후 작업을 직접 실행
+    private void runAfterCommitTasks() {
+        em.flush();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+    
     private Member createMember(String username, String password, String authToken, String nickname) {
         return Member.builder()
                      .username(username)